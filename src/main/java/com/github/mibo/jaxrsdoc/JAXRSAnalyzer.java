@@ -1,6 +1,7 @@
 package com.github.mibo.jaxrsdoc;
 
 import com.github.mibo.jaxrsdoc.analysis.ProjectAnalyzer;
+import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.SimulationBudget;
 import com.github.mibo.jaxrsdoc.backend.Backend;
 import com.github.mibo.jaxrsdoc.model.rest.Project;
 import com.github.mibo.jaxrsdoc.model.rest.Resources;
@@ -30,9 +31,13 @@ public class JAXRSAnalyzer {
     private final Path outputLocation;
     private final Backend backend;
     private final String basePath;
+    private final Path cacheDirectory;
+    private final int threads;
+    private final SimulationBudget simulationBudget;
 
     /**
      * Constructs a JAX-RS Analyzer.
+     * Uses a worker thread per processor, no index cache and the default simulation budget.
      *
      * @param projectClassPaths  The paths of the projects classes to be analyzed (can either be directories or jar-files, at least one is mandatory)
      * @param projectSourcePaths The paths of the projects sources to be analyzed (can either be directories or jar-files, optional)
@@ -46,6 +51,29 @@ public class JAXRSAnalyzer {
     public JAXRSAnalyzer(final Set<Path> projectClassPaths, final Set<Path> projectSourcePaths,
                          final Set<Path> classPaths, final String projectName, final String projectVersion,
                          final String basePath, final Backend backend, final Path outputLocation) {
+        this(projectClassPaths, projectSourcePaths, classPaths, projectName, projectVersion, basePath, backend, outputLocation, null,
+                Runtime.getRuntime().availableProcessors(), SimulationBudget.DEFAULT);
+    }
+
+    /**
+     * Constructs a JAX-RS Analyzer.
+     *
+     * @param projectClassPaths  The paths of the projects classes to be analyzed (can either be directories or jar-files, at least one is mandatory)
+     * @param projectSourcePaths The paths of the projects sources to be analyzed (can either be directories or jar-files, optional)
+     * @param classPaths         The additional class paths (can either be directories or jar-files)
+     * @param projectName        The project name
+     * @param projectVersion     The project version
+     * @param basePath           The base path
+     * @param backend            The backend to render the output
+     * @param outputLocation     The location of the output file (output will be printed to standard out if {@code null})
+     * @param cacheDirectory     The directory where the class path indexes are cached between runs (no cache is used if {@code null})
+     * @param threads            The number of worker threads used for the analysis
+     * @param simulationBudget   The budget of the simulation of every resource method
+     */
+    public JAXRSAnalyzer(final Set<Path> projectClassPaths, final Set<Path> projectSourcePaths,
+                         final Set<Path> classPaths, final String projectName, final String projectVersion,
+                         final String basePath, final Backend backend, final Path outputLocation, final Path cacheDirectory,
+                         final int threads, final SimulationBudget simulationBudget) {
         Objects.requireNonNull(projectClassPaths);
         Objects.requireNonNull(projectSourcePaths);
         Objects.requireNonNull(classPaths);
@@ -53,9 +81,12 @@ public class JAXRSAnalyzer {
         Objects.requireNonNull(projectVersion);
         Objects.requireNonNull(basePath);
         Objects.requireNonNull(backend);
+        Objects.requireNonNull(simulationBudget);
 
         if (projectClassPaths.isEmpty())
             throw new IllegalArgumentException("At least one project path is mandatory");
+        if (threads < 1)
+            throw new IllegalArgumentException("The number of threads must be positive, was " + threads);
 
         this.projectClassPaths.addAll(projectClassPaths);
         this.projectSourcePaths.addAll(projectSourcePaths);
@@ -65,13 +96,16 @@ public class JAXRSAnalyzer {
         this.projectVersion = projectVersion;
         this.outputLocation = outputLocation;
         this.backend = backend;
+        this.cacheDirectory = cacheDirectory;
+        this.threads = threads;
+        this.simulationBudget = simulationBudget;
     }
 
     /**
      * Analyzes the JAX-RS project at the class path and produces the output as configured.
      */
     public void analyze() {
-        final Resources resources = new ProjectAnalyzer(classPaths).analyze(projectClassPaths, projectSourcePaths);
+        final Resources resources = new ProjectAnalyzer(classPaths, threads, cacheDirectory, simulationBudget).analyze(projectClassPaths, projectSourcePaths);
         if(basePath != null) {
           resources.setBasePath(basePath);
         }
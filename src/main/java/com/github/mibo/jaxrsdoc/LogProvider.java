@@ -32,6 +32,7 @@ public final class LogProvider {
         // do nothing
     };
     private static Consumer<String> errorLogger = System.err::println;
+    private static boolean debugEnabled;
 
     private LogProvider() {
         throw new UnsupportedOperationException();
@@ -53,6 +54,16 @@ public final class LogProvider {
      */
     public static void injectDebugLogger(final Consumer<String> logger) {
         LogProvider.debugLogger = logger;
+        LogProvider.debugEnabled = true;
+    }
+
+    /**
+     * Checks if a debug logger has been injected.
+     *
+     * @return {@code true} if debug messages are logged
+     */
+    public static boolean isDebugEnabled() {
+        return debugEnabled;
     }
 
     /**
@@ -88,6 +99,10 @@ public final class LogProvider {
      * @param throwable The throwable to log
      */
     public static void debug(final Throwable throwable) {
+        // building the stack trace is expensive
+        if (!debugEnabled)
+            return;
+
         final StringWriter errors = new StringWriter();
         throwable.printStackTrace(new PrintWriter(errors));
         debugLogger.accept(errors.toString());
@@ -15,6 +15,7 @@
  */
 package com.github.mibo.jaxrsdoc;
 
+import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.SimulationBudget;
 import com.github.mibo.jaxrsdoc.backend.Backend;
 import com.github.mibo.jaxrsdoc.backend.StringBackend;
 import com.github.mibo.jaxrsdoc.backend.swagger.SwaggerOptions;
@@ -46,6 +47,11 @@ public class Main {
     private static String version = DEFAULT_VERSION;
     private static String backendType = "swagger";
     private static Path outputFileLocation;
+    private static Path cacheDirectory;
+    private static int threads = Runtime.getRuntime().availableProcessors();
+    private static long maxSimulatedInstructions = SimulationBudget.DEFAULT_MAX_INSTRUCTIONS;
+    private static int maxSimulationDepth = SimulationBudget.DEFAULT_MAX_DEPTH;
+    private static long maxSimulationTime = SimulationBudget.DEFAULT_MAX_MILLIS;
 
     /**
      * Inspects JAX-RS projects and outputs the gathered information.
@@ -66,6 +72,11 @@ public class Main {
      * <li>{@code -d project domain} The domain of the project</li>
      * <li>{@code -o output file} The location of the analysis output (will be printed to standard out if omitted)</li>
      * <li>{@code -e encoding} The source file encoding</li>
+     * <li>{@code --cache-dir directory} The directory where the indexes of the class path jar-files are cached between runs</li>
+     * <li>{@code --threads number} The number of worker threads used for the analysis (number of available processors per default)</li>
+     * <li>{@code --maxSimulatedInstructions number} The maximum number of simulated instructions per resource method ({@code 1000000} per default)</li>
+     * <li>{@code --maxSimulationDepth number} The maximum depth of simulated project method invocations per resource method ({@code 32} per default)</li>
+     * <li>{@code --maxSimulationTime milliseconds} The maximum simulation time per resource method ({@code 10000} per default)</li>
      * </ul>
      * <p>
      * Following available backend specific options (only have effect if the corresponding backend is selected):
@@ -94,8 +105,9 @@ public class Main {
         final Backend backend = JAXRSAnalyzer.constructBackend(backendType);
         backend.configure(attributes);
 
-        final JAXRSAnalyzer jaxrsAnalyzer = new JAXRSAnalyzer(
-                projectClassPaths, projectSourcePaths, classPaths, name, version, basePath, backend, outputFileLocation);
+        final SimulationBudget simulationBudget = new SimulationBudget(maxSimulatedInstructions, maxSimulationDepth, maxSimulationTime);
+        final JAXRSAnalyzer jaxrsAnalyzer = new JAXRSAnalyzer(projectClassPaths, projectSourcePaths, classPaths, name, version, basePath,
+                backend, outputFileLocation, cacheDirectory, threads, simulationBudget);
         jaxrsAnalyzer.analyze();
     }
 
@@ -134,6 +146,21 @@ public class Main {
                         case "-e":
                             System.setProperty("project.build.sourceEncoding", args[++i]);
                             break;
+                        case "--cache-dir":
+                            cacheDirectory = Paths.get(args[++i].replaceFirst("^~", System.getProperty("user.home")));
+                            break;
+                        case "--threads":
+                            threads = extractThreads(args[++i]);
+                            break;
+                        case "--maxSimulatedInstructions":
+                            maxSimulatedInstructions = extractLimit(args[++i], "number of simulated instructions");
+                            break;
+                        case "--maxSimulationDepth":
+                            maxSimulationDepth = (int) Math.min(Integer.MAX_VALUE, extractLimit(args[++i], "simulation depth"));
+                            break;
+                        case "--maxSimulationTime":
+                            maxSimulationTime = extractLimit(args[++i], "simulation time");
+                            break;
                         case "--swaggerSchemes":
                             attributes.put(SwaggerOptions.SWAGGER_SCHEMES, args[++i]);
                             break;
@@ -182,6 +209,28 @@ public class Main {
         return name.toLowerCase();
     }
 
+    private static int extractThreads(final String threads) {
+        try {
+            final int number = Integer.parseInt(threads);
+            if (number < 1)
+                throw new IllegalArgumentException("The number of threads must be positive");
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number of threads " + threads);
+        }
+    }
+
+    private static long extractLimit(final String limit, final String name) {
+        try {
+            final long number = Long.parseLong(limit);
+            if (number < 1)
+                throw new IllegalArgumentException("The " + name + " must be positive");
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + " " + limit);
+        }
+    }
+
     private static List<Path> extractClassPaths(final String classPaths) {
         final List<Path> paths = Stream.of(classPaths.split(File.pathSeparator))
                 .map(s -> s.replaceFirst("^~", System.getProperty("user.home")))
@@ -215,6 +264,11 @@ public class Main {
         System.err.println(" -o <output file> The location of the analysis output (will be printed to standard out if omitted)");
         System.err.println(" -a <attribute name>=<attribute value> Set custom attributes for backends.");
         System.err.println(" -e <encoding> The source file encoding");
+        System.err.println(" --cache-dir <directory> The directory where the indexes of the class path jar-files are cached between runs");
+        System.err.println(" --threads <number> The number of worker threads used for the analysis (number of available processors per default)");
+        System.err.println(" --maxSimulatedInstructions <number> The maximum number of simulated instructions per resource method (1000000 per default)");
+        System.err.println(" --maxSimulationDepth <number> The maximum depth of simulated project method invocations per resource method (32 per default)");
+        System.err.println(" --maxSimulationTime <milliseconds> The maximum simulation time per resource method (10000 per default)");
         System.err.println("\nFollowing available backend specific options (only have effect if the corresponding backend is selected):\n");
         System.err.println(" --swaggerSchemes <scheme>[,schemes] The Swagger schemes: http (default), https, ws, wss");
         System.err.println(" --renderSwaggerTags Enables rendering of Swagger tags (default tag will be used per default)");
@@ -0,0 +1,127 @@
+package com.github.mibo.jaxrsdoc.analysis;
+
+import com.github.mibo.jaxrsdoc.analysis.bytecode.ProjectCallGraph;
+import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.MethodPool;
+import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.MethodSummaryCache;
+import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.SimulationBudget;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The state of a single analysis run. Owns the job registry, the method pool, the project call graph, the summaries of
+ * simulated project methods, the numbering of dynamic types, the recursion guard and the budget of the method simulation,
+ * so that several analyses can run concurrently in one JVM.
+ * <p>
+ * The context is bound to the current thread via {@link #runWith(AnalysisContext, Runnable)}. If no context is bound,
+ * a default context is used. This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class AnalysisContext {
+
+    private static final AnalysisContext DEFAULT_CONTEXT = new AnalysisContext();
+    private static final ThreadLocal<AnalysisContext> CURRENT_CONTEXT = new ThreadLocal<>();
+
+    private final JobRegistry jobRegistry = new JobRegistry();
+    private final MethodPool methodPool = new MethodPool();
+    private final MethodSummaryCache methodSummaries = new MethodSummaryCache();
+    private final ProjectCallGraph callGraph = new ProjectCallGraph();
+    private final AtomicInteger dynamicTypeCounter = new AtomicInteger();
+    private final SimulationBudget simulationBudget;
+
+    /**
+     * The project methods which are currently simulated, tracked per thread as the simulation of a method runs on a single thread.
+     */
+    private final ThreadLocal<List<MethodIdentifier>> executedPathMethods = ThreadLocal.withInitial(LinkedList::new);
+
+    public AnalysisContext() {
+        this(SimulationBudget.DEFAULT);
+    }
+
+    /**
+     * @param simulationBudget The budget of the simulation of every resource method
+     */
+    public AnalysisContext(final SimulationBudget simulationBudget) {
+        this.simulationBudget = simulationBudget;
+    }
+
+    /**
+     * Returns the context which is bound to the current thread or the default context.
+     */
+    public static AnalysisContext current() {
+        final AnalysisContext context = CURRENT_CONTEXT.get();
+        return context != null ? context : DEFAULT_CONTEXT;
+    }
+
+    /**
+     * Runs the action with the given context bound to the current thread. The previous binding is restored afterwards.
+     *
+     * @param context The context to bind
+     * @param action  The action to run
+     */
+    public static void runWith(final AnalysisContext context, final Runnable action) {
+        callWith(context, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls the action with the given context bound to the current thread. The previous binding is restored afterwards.
+     *
+     * @param context The context to bind
+     * @param action  The action to call
+     * @return The result of the action
+     */
+    public static <T> T callWith(final AnalysisContext context, final Supplier<T> action) {
+        final AnalysisContext previous = CURRENT_CONTEXT.get();
+        CURRENT_CONTEXT.set(context);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null)
+                CURRENT_CONTEXT.remove();
+            else
+                CURRENT_CONTEXT.set(previous);
+        }
+    }
+
+    public JobRegistry getJobRegistry() {
+        return jobRegistry;
+    }
+
+    public MethodPool getMethodPool() {
+        return methodPool;
+    }
+
+    public ProjectCallGraph getCallGraph() {
+        return callGraph;
+    }
+
+    public MethodSummaryCache getMethodSummaries() {
+        return methodSummaries;
+    }
+
+    public SimulationBudget getSimulationBudget() {
+        return simulationBudget;
+    }
+
+    /**
+     * Returns the next number of a dynamic type. The numbers start at {@code 1} for every context.
+     */
+    public int nextDynamicTypeNumber() {
+        return dynamicTypeCounter.incrementAndGet();
+    }
+
+    /**
+     * Returns the project methods which are currently simulated on the current thread.
+     */
+    public List<MethodIdentifier> getExecutedPathMethods() {
+        return executedPathMethods.get();
+    }
+
+}
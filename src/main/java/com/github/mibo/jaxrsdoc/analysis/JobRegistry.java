@@ -1,31 +1,53 @@
 package com.github.mibo.jaxrsdoc.analysis;
 
+import com.github.mibo.jaxrsdoc.LogProvider;
 import com.github.mibo.jaxrsdoc.model.results.ClassResult;
+import com.github.mibo.jaxrsdoc.model.results.MethodResult;
 import com.github.mibo.jaxrsdoc.utils.Pair;
 
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
- * Thread-safe singleton of unhandled class analysis jobs.
+ * Thread-safe registry of unhandled class analysis jobs. Every analysis run owns its own registry, see {@link AnalysisContext}.
+ * <p>
+ * Every class is analyzed only once. The class result of the first registration is used as template, the class results
+ * of further registrations of the same class are filled with copies of the template by {@link #linkAnalyzedClasses()}.
  *
  * @author Sebastian Daschner
  */
 public class JobRegistry {
 
-    private static final JobRegistry INSTANCE = new JobRegistry();
-    private Queue<Pair<String, ClassResult>> unhandledClasses = new ConcurrentLinkedQueue<>();
+    private final Queue<Pair<String, ClassResult>> unhandledClasses = new ConcurrentLinkedQueue<>();
+    private final Map<String, ClassResult> analyzedClasses = new ConcurrentHashMap<>();
+    private final Queue<Pair<String, ClassResult>> linkedClasses = new ConcurrentLinkedQueue<>();
 
-    private JobRegistry() {
-        // only one instance allowed
+    JobRegistry() {
+        // only instantiated by the analysis context
     }
 
     /**
      * Adds the (sub-)resource class name to the analysis list with the associated class result.
+     * If the class has already been registered, the class result is linked to the result of the earlier registration instead.
+     * Sub-resource classes which are already contained in the chain of parent resources are ignored.
      */
     public void analyzeResourceClass(final String className, final ClassResult classResult) {
-        // TODO check if class has already been analyzed
-        unhandledClasses.add(Pair.of(className, classResult));
+        final String internalName = className.replace('.', '/');
+
+        if (isEnclosedBy(classResult, internalName)) {
+            LogProvider.debug("Ignoring recursive sub-resource class " + className);
+            return;
+        }
+
+        if (analyzedClasses.putIfAbsent(internalName, classResult) == null)
+            unhandledClasses.add(Pair.of(className, classResult));
+        else
+            linkedClasses.add(Pair.of(internalName, classResult));
     }
 
     /**
@@ -37,8 +59,99 @@ public class JobRegistry {
         return unhandledClasses.poll();
     }
 
-    public static JobRegistry getInstance() {
-        return INSTANCE;
+    /**
+     * Fills the class results of all classes which have been registered several times with copies of the analyzed class results.
+     * Has to be called after all classes have been analyzed.
+     */
+    public void linkAnalyzedClasses() {
+        final Map<ClassResult, String> linkedResults = new IdentityHashMap<>();
+        linkedClasses.forEach(p -> linkedResults.put(p.getRight(), p.getLeft()));
+
+        Pair<String, ClassResult> linkedClass;
+        while ((linkedClass = linkedClasses.poll()) != null) {
+            final ClassResult classResult = linkedClass.getRight();
+            final Set<String> enclosingClasses = new HashSet<>();
+            enclosingClasses.add(linkedClass.getLeft());
+            addEnclosingClasses(classResult, enclosingClasses);
+
+            copy(analyzedClasses.get(linkedClass.getLeft()), classResult, enclosingClasses, linkedResults);
+        }
+    }
+
+    /**
+     * Copies the analyzed contents of the source to the target class result. The sub-resources are copied recursively,
+     * unless they are already contained in the enclosing classes.
+     *
+     * @param source           The analyzed class result
+     * @param target           The empty class result to fill
+     * @param enclosingClasses The names of the classes of the target and all its parents
+     * @param linkedResults    The class results which are filled from another analyzed result, with the name of the class
+     */
+    private void copy(final ClassResult source, final ClassResult target, final Set<String> enclosingClasses, final Map<ClassResult, String> linkedResults) {
+        target.setOriginalClass(source.getOriginalClass());
+        target.setApplicationPath(source.getApplicationPath());
+        target.setResourcePath(source.getResourcePath());
+        target.setDeprecated(source.isDeprecated());
+        target.getClassFields().addAll(source.getClassFields());
+        target.getRequestMediaTypes().addAll(source.getRequestMediaTypes());
+        target.getResponseMediaTypes().addAll(source.getResponseMediaTypes());
+
+        for (final MethodResult method : source.getMethods()) {
+            final MethodResult copiedMethod = copy(method);
+
+            if (method.getSubResource() != null) {
+                final ClassResult subResource = new ClassResult();
+                copiedMethod.setSubResource(subResource);
+
+                // sub-resources which have been linked themselves are taken from the analyzed result
+                final String linkedClass = linkedResults.get(method.getSubResource());
+                final ClassResult analyzedSubResource = linkedClass != null ? analyzedClasses.get(linkedClass) : method.getSubResource();
+                final String subResourceClass = analyzedSubResource.getOriginalClass();
+
+                if (subResourceClass != null && enclosingClasses.add(subResourceClass)) {
+                    copy(analyzedSubResource, subResource, enclosingClasses, linkedResults);
+                    enclosingClasses.remove(subResourceClass);
+                }
+            }
+
+            // the method is added after it's complete, as the hash code depends on the sub-resource
+            target.add(copiedMethod);
+        }
+    }
+
+    private static MethodResult copy(final MethodResult method) {
+        final MethodResult copiedMethod = new MethodResult();
+        copiedMethod.getRequestMediaTypes().addAll(method.getRequestMediaTypes());
+        copiedMethod.getResponseMediaTypes().addAll(method.getResponseMediaTypes());
+        copiedMethod.getMethodParameters().addAll(method.getMethodParameters());
+        copiedMethod.getResponses().addAll(method.getResponses());
+        copiedMethod.getInstructions().addAll(method.getInstructions());
+        copiedMethod.setPath(method.getPath());
+        copiedMethod.setRequestBodyType(method.getRequestBodyType());
+        copiedMethod.setOriginalMethodSignature(method.getOriginalMethodSignature());
+        copiedMethod.setHttpMethod(method.getHttpMethod());
+        copiedMethod.setMethodDoc(method.getMethodDoc());
+        copiedMethod.setDeprecated(method.isDeprecated());
+        return copiedMethod;
+    }
+
+    /**
+     * Checks if the class is contained in the chain of parent resources of the given class result.
+     */
+    private static boolean isEnclosedBy(final ClassResult classResult, final String className) {
+        final Set<String> enclosingClasses = new HashSet<>();
+        addEnclosingClasses(classResult, enclosingClasses);
+        return enclosingClasses.contains(className);
+    }
+
+    private static void addEnclosingClasses(final ClassResult classResult, final Set<String> enclosingClasses) {
+        MethodResult locator = classResult.getParentSubResourceLocator();
+        while (locator != null && locator.getParentResource() != null) {
+            final ClassResult parentResource = locator.getParentResource();
+            if (parentResource.getOriginalClass() != null)
+                enclosingClasses.add(parentResource.getOriginalClass());
+            locator = parentResource.getParentSubResourceLocator();
+        }
     }
 
 }
@@ -18,31 +18,48 @@ package com.github.mibo.jaxrsdoc.analysis;
 
 import com.github.mibo.jaxrsdoc.LogProvider;
 import com.github.mibo.jaxrsdoc.analysis.bytecode.BytecodeAnalyzer;
+import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.SimulationBudget;
+import com.github.mibo.jaxrsdoc.analysis.classes.AnalysisClassPath;
+import com.github.mibo.jaxrsdoc.analysis.classes.ClassCache;
+import com.github.mibo.jaxrsdoc.analysis.classes.ConstantPoolScanner;
 import com.github.mibo.jaxrsdoc.analysis.classes.ContextClassReader;
 import com.github.mibo.jaxrsdoc.analysis.classes.JAXRSClassVisitor;
+import com.github.mibo.jaxrsdoc.analysis.classes.JAXRSRootResourceClassVisitor;
+import com.github.mibo.jaxrsdoc.analysis.classes.index.ClassIndexCache;
 import com.github.mibo.jaxrsdoc.analysis.javadoc.JavaDocAnalyzer;
 import com.github.mibo.jaxrsdoc.analysis.results.ResultInterpreter;
-import com.github.mibo.jaxrsdoc.model.JavaUtils;
+import com.github.mibo.jaxrsdoc.model.Types;
+import com.github.mibo.jaxrsdoc.model.javadoc.MethodComment;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
 import com.github.mibo.jaxrsdoc.model.rest.Resources;
 import com.github.mibo.jaxrsdoc.model.results.ClassResult;
 import com.github.mibo.jaxrsdoc.utils.Pair;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 
-import javax.ws.rs.ApplicationPath;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
-
-import static com.github.mibo.jaxrsdoc.model.JavaUtils.isAnnotationPresent;
+import java.util.stream.Collectors;
 
 /**
  * Analyzes the JAX-RS project. This class is thread-safe.
@@ -57,19 +74,45 @@ public class ProjectAnalyzer {
     // a contains impl of iface without annotations
     // b should have result
 
+    private static final ConstantPoolScanner ROOT_RESOURCE_SCANNER = new ConstantPoolScanner(Types.PATH, Types.APPLICATION_PATH);
+    private static final int DEFAULT_STAGE_QUEUE_SIZE = 64;
+
     private final Lock lock = new ReentrantLock();
-    private final Set<String> classes = new HashSet<>();
+    private final Set<String> classes = ConcurrentHashMap.newKeySet();
+    private final Set<Path> classPaths = new HashSet<>();
+    private final int threads;
+    private final SimulationBudget simulationBudget;
+    private final ClassIndexCache indexCache;
     private final ResultInterpreter resultInterpreter = new ResultInterpreter();
-    private final BytecodeAnalyzer bytecodeAnalyzer = new BytecodeAnalyzer();
     private final JavaDocAnalyzer javaDocAnalyzer = new JavaDocAnalyzer();
 
     /**
      * Creates a project analyzer with given class path locations where to search for classes.
+     * Uses a worker thread per processor, no index cache and the default simulation budget.
      *
      * @param classPaths The locations of additional class paths (can be directories or jar-files)
      */
     public ProjectAnalyzer(final Set<Path> classPaths) {
-        classPaths.forEach(this::addToClassPool);
+        this(classPaths, Runtime.getRuntime().availableProcessors(), null, SimulationBudget.DEFAULT);
+    }
+
+    /**
+     * Creates a project analyzer with given class path locations where to search for classes.
+     *
+     * @param classPaths       The locations of additional class paths (can be directories or jar-files)
+     * @param threads          The number of worker threads used to discover and analyze the project classes
+     * @param cacheDirectory   The directory where the indexes of the class path jar-files are cached or {@code null} if no cache should be used
+     * @param simulationBudget The budget of the simulation of every resource method
+     */
+    public ProjectAnalyzer(final Set<Path> classPaths, final int threads, final Path cacheDirectory, final SimulationBudget simulationBudget) {
+        if (threads < 1)
+            throw new IllegalArgumentException("The number of threads must be positive, was " + threads);
+        this.threads = threads;
+        this.simulationBudget = Objects.requireNonNull(simulationBudget);
+        this.indexCache = cacheDirectory == null ? null : new ClassIndexCache(cacheDirectory);
+
+        classPaths.forEach(ProjectAnalyzer::checkLocation);
+        this.classPaths.addAll(classPaths);
     }
 
     /**
@@ -81,39 +124,93 @@ public class ProjectAnalyzer {
      */
     public Resources analyze(final Set<Path> projectClassPaths, final Set<Path> projectSourcePaths) {
         lock.lock();
-        try {
-            projectClassPaths.forEach(this::addProjectPath);
-
-            // analyze relevant classes
-            final JobRegistry jobRegistry = JobRegistry.getInstance();
-            final Set<ClassResult> classResults = new HashSet<>();
+        // the class path only lives as long as the analysis run
+        try (final AnalysisClassPath classPath = new AnalysisClassPath()) {
+            // all state of the run is owned by a fresh context, so other analyses in the same JVM are not affected
+            final AnalysisContext context = new AnalysisContext(simulationBudget);
+            return AnalysisContext.callWith(context, () -> AnalysisClassPath.callWith(classPath,
+                    () -> analyze(classPath, context, projectClassPaths, projectSourcePaths)));
+        } finally {
+            classes.clear();
+            lock.unlock();
+        }
+    }
 
-            classes.stream().filter(this::isJAXRSRootResource).forEach(c -> jobRegistry.analyzeResourceClass(c, new ClassResult()));
+    private Resources analyze(final AnalysisClassPath classPath, final AnalysisContext context, final Set<Path> projectClassPaths,
+                              final Set<Path> projectSourcePaths) {
+        classPaths.forEach(p -> addToClassPool(p, indexCache));
+        // all project paths have to be known before any class is read
+        projectClassPaths.forEach(p -> addToClassPool(p, null));
 
-            Pair<String, ClassResult> classResultPair;
-            while ((classResultPair = jobRegistry.nextUnhandledClass()) != null) {
-                final ClassResult classResult = classResultPair.getRight();
+        final Set<ClassResult> classResults;
+        final Map<MethodIdentifier, MethodComment> methodComments;
 
-                classResults.add(classResult);
-                analyzeClass(classResultPair.getLeft(), classResult);
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // the JavaDoc doesn't depend on the bytecode analysis and is parsed meanwhile
+            final ForkJoinTask<Map<MethodIdentifier, MethodComment>> javaDoc = pool.submit(() -> parseJavaDoc(projectSourcePaths));
 
-                bytecodeAnalyzer.analyzeBytecode(classResult);
-            }
+            // root resources are analyzed while the remaining classes are still being discovered
+            final StageQueue<String> rootResources = new StageQueue<>("root resources", Integer.getInteger("jaxrs-analyzer.stageQueueSize", DEFAULT_STAGE_QUEUE_SIZE));
+            final ForkJoinTask<?> discovery = pool.submit(() -> discoverClasses(classPath, context, projectClassPaths, rootResources));
 
-            javaDocAnalyzer.analyze(projectSourcePaths, classResults);
+            classResults = analyzeClasses(pool, classPath, context, rootResources);
+            discovery.join();
+            LogProvider.debug(rootResources.toString());
 
-            return resultInterpreter.interpret(classResults);
+            methodComments = javaDoc.join();
         } finally {
-            lock.unlock();
+            pool.shutdown();
         }
+
+        javaDocAnalyzer.combine(classResults, methodComments);
+        // the copies of the analyzed classes include the JavaDoc comments
+        context.getJobRegistry().linkAnalyzedClasses();
+
+        final ClassCache classCache = classPath.getClassCache();
+        LogProvider.debug("Class cache: " + classCache.getHits() + " hits, " + classCache.getMisses() + " misses, "
+                + classCache.getEvictions() + " evictions, " + classCache.getWeight() + " bytes cached");
+        LogProvider.debug("Call graph: " + context.getCallGraph().size() + " project methods");
+        LogProvider.debug(context.getMethodSummaries().toString());
+
+        final Resources resources = resultInterpreter.interpret(classResults);
+
+        final Set<String> missingClasses = classPath.getClassResolutionCache().getMissingClasses();
+        if (!missingClasses.isEmpty())
+            LogProvider.error("Could not load " + missingClasses.size() + " classes, the analysis results may be incomplete: " + String.join(", ", missingClasses));
+
+        return resources;
     }
 
-    private boolean isJAXRSRootResource(String className) {
-        final Class<?> clazz = JavaUtils.loadClassFromName(className);
-        return clazz != null && (isAnnotationPresent(clazz, javax.ws.rs.Path.class) || isAnnotationPresent(clazz, ApplicationPath.class));
+    /**
+     * Checks if the given class is a JAX-RS root resource. Only the class header and class-level annotations are read,
+     * the class itself is not loaded.
+     *
+     * @param className The fully-qualified class name
+     * @return {@code true} if the class is annotated with {@code @Path} or {@code @ApplicationPath}
+     */
+    private boolean isJAXRSRootResource(final String className) {
+        try {
+            // every project class is scanned once, only the analyzed classes are kept in the class cache
+            final byte[] classBytes = ContextClassReader.readUncachedClass(className);
+
+            // most classes don't reference the annotations at all and are ruled out without visiting
+            if (!ROOT_RESOURCE_SCANNER.containsAny(classBytes))
+                return false;
+
+            final ClassReader classReader = new ContextClassReader(classBytes);
+            final JAXRSRootResourceClassVisitor visitor = new JAXRSRootResourceClassVisitor();
+
+            classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return visitor.isRootResource();
+        } catch (IOException e) {
+            LogProvider.error("The class " + className + " could not be loaded!");
+            LogProvider.debug(e);
+            return false;
+        }
     }
 
-    private void analyzeClass(final String className, ClassResult classResult) {
+    private static void analyzeClass(final String className, ClassResult classResult) {
         try {
             final ClassReader classReader = new ContextClassReader(className);
             final ClassVisitor visitor = new JAXRSClassVisitor(classResult);
@@ -126,73 +223,254 @@ public class ProjectAnalyzer {
     }
 
     /**
-     * Adds the location to the class pool.
+     * Adds the location to the class pool. The index of jar-files is taken from the given cache, if available.
      *
-     * @param location The location of a jar file or a directory
+     * @param location   The location of a jar file or a directory
+     * @param indexCache The cache of jar-file indexes or {@code null}
      */
-    private void addToClassPool(final Path location) {
-        if (!location.toFile().exists())
-            throw new IllegalArgumentException("The location '" + location + "' does not exist!");
+    private static void addToClassPool(final Path location, final ClassIndexCache indexCache) {
+        checkLocation(location);
         try {
-            ContextClassReader.addClassPath(location.toUri().toURL());
+            if (indexCache != null && location.toFile().isFile())
+                ContextClassReader.addClassPath(location, indexCache.getIndex(location));
+            else
+                ContextClassReader.addClassPath(location);
         } catch (Exception e) {
             throw new IllegalArgumentException("The location '" + location + "' could not be loaded to the class path!", e);
         }
     }
 
+    private static void checkLocation(final Path location) {
+        if (!location.toFile().exists())
+            throw new IllegalArgumentException("The location '" + location + "' does not exist!");
+    }
+
     /**
-     * Adds the project paths and loads all classes.
+     * Enumerates the classes of all project paths and passes the root resources to the analysis as soon as they are found.
+     * Has to be called from a worker thread of the pool.
      *
-     * @param path The project path
+     * @param classPath         The class path of the current analysis run
+     * @param context           The context of the current analysis run
+     * @param projectClassPaths The project class paths
+     * @param rootResources     The queue where the root resource classes are added, will be closed after all classes have been discovered
      */
-    private void addProjectPath(final Path path) {
-        addToClassPool(path);
-
-        if (path.toFile().isFile() && path.toString().endsWith(".jar")) {
-            addJarClasses(path);
-        } else if (path.toFile().isDirectory()) {
-            addDirectoryClasses(path, Paths.get(""));
-        } else {
-            throw new IllegalArgumentException("The project path '" + path + "' must be a jar file or a directory");
+    private void discoverClasses(final AnalysisClassPath classPath, final AnalysisContext context, final Set<Path> projectClassPaths,
+                                 final StageQueue<String> rootResources) {
+        try {
+            ForkJoinTask.invokeAll(projectClassPaths.stream()
+                    .map(path -> new ProjectPathDiscovery(classPath, context, path, rootResources))
+                    .collect(Collectors.toList()));
+        } finally {
+            rootResources.close();
         }
     }
 
+    /**
+     * Parses the JavaDoc of the project sources.
+     *
+     * @param projectSourcePaths The project source file paths
+     * @return The method comments
+     */
+    private Map<MethodIdentifier, MethodComment> parseJavaDoc(final Set<Path> projectSourcePaths) {
+        final long start = System.nanoTime();
+        final Map<MethodIdentifier, MethodComment> methodComments = javaDocAnalyzer.parse(projectSourcePaths);
+        LogProvider.debug("Stage JavaDoc: " + methodComments.size() + " method comments in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        return methodComments;
+    }
+
+    /**
+     * Analyzes the root resource classes on the worker pool as soon as they are discovered. Sub-resource classes which are
+     * registered during the analysis are picked up by the running tasks, until the registry contains no more unhandled classes.
+     *
+     * @param pool          The worker pool
+     * @param classPath     The class path of the current analysis run
+     * @param context       The context of the current analysis run
+     * @param rootResources The queue of discovered root resource classes
+     * @return The results of all analyzed classes
+     */
+    private Set<ClassResult> analyzeClasses(final ForkJoinPool pool, final AnalysisClassPath classPath, final AnalysisContext context,
+                                            final StageQueue<String> rootResources) {
+        final long start = System.nanoTime();
+        final Queue<ClassResult> classResults = new ConcurrentLinkedQueue<>();
+        final List<ForkJoinTask<?>> analyses = new LinkedList<>();
+
+        String className;
+        while ((className = rootResources.take()) != null) {
+            context.getJobRegistry().analyzeResourceClass(className, new ClassResult());
+            pollClassAnalyses(classPath, context, classResults).stream().map(pool::submit).forEach(analyses::add);
+        }
+        analyses.forEach(ForkJoinTask::join);
+
+        // sub-resources which have been registered after the registering tasks had finished
+        List<ClassAnalysis> tasks;
+        while (!(tasks = pollClassAnalyses(classPath, context, classResults)).isEmpty()) {
+            tasks.stream().map(pool::submit).collect(Collectors.toList()).forEach(ForkJoinTask::join);
+        }
+
+        LogProvider.debug("Stage class analysis: " + classResults.size() + " classes in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        return new HashSet<>(classResults);
+    }
+
+    private static List<ClassAnalysis> pollClassAnalyses(final AnalysisClassPath classPath, final AnalysisContext context, final Queue<ClassResult> classResults) {
+        final List<ClassAnalysis> tasks = new LinkedList<>();
+        Pair<String, ClassResult> classResultPair;
+        while ((classResultPair = context.getJobRegistry().nextUnhandledClass()) != null)
+            tasks.add(new ClassAnalysis(classPath, classResultPair.getLeft(), classResultPair.getRight(), context, classResults));
+        return tasks;
+    }
+
+    /**
+     * Runs the action with the class path and context of the current analysis run bound to the current thread.
+     */
+    private static void runWith(final AnalysisClassPath classPath, final AnalysisContext context, final Runnable action) {
+        AnalysisContext.runWith(context, () -> AnalysisClassPath.runWith(classPath, action));
+    }
+
+    /**
+     * Adds the class to the set of known classes and passes it to the analysis if it's a root resource.
+     *
+     * @param className     The fully-qualified class name
+     * @param rootResources The queue where the root resource classes are added
+     */
+    private void discoverClass(final String className, final StageQueue<String> rootResources) {
+        if (classes.add(className) && isJAXRSRootResource(className))
+            rootResources.put(className);
+    }
+
+    /**
+     * Discovers the classes of a single project path.
+     */
+    private class ProjectPathDiscovery extends RecursiveAction {
+
+        private final AnalysisClassPath classPath;
+        private final AnalysisContext context;
+        private final Path path;
+        private final StageQueue<String> rootResources;
+
+        ProjectPathDiscovery(final AnalysisClassPath classPath, final AnalysisContext context, final Path path, final StageQueue<String> rootResources) {
+            this.classPath = classPath;
+            this.context = context;
+            this.path = path;
+            this.rootResources = rootResources;
+        }
+
+        @Override
+        protected void compute() {
+            if (path.toFile().isFile() && path.toString().endsWith(".jar")) {
+                runWith(classPath, context, () -> addJarClasses(path, rootResources));
+            } else if (path.toFile().isDirectory()) {
+                new DirectoryDiscovery(classPath, context, path, Paths.get(""), rootResources).compute();
+            } else {
+                throw new IllegalArgumentException("The project path '" + path + "' must be a jar file or a directory");
+            }
+        }
+
+    }
+
+    /**
+     * Discovers the classes of a directory. Every sub-directory is handled by a separate task.
+     */
+    private class DirectoryDiscovery extends RecursiveAction {
+
+        private final AnalysisClassPath classPath;
+        private final AnalysisContext context;
+        private final Path location;
+        private final Path subPath;
+        private final StageQueue<String> rootResources;
+
+        /**
+         * @param classPath     The class path of the current analysis run
+         * @param context       The context of the current analysis run
+         * @param location      The location of the current directory
+         * @param subPath       The sub-path which is relevant for the package names
+         * @param rootResources The queue where the root resource classes are added
+         */
+        DirectoryDiscovery(final AnalysisClassPath classPath, final AnalysisContext context, final Path location, final Path subPath,
+                           final StageQueue<String> rootResources) {
+            this.classPath = classPath;
+            this.context = context;
+            this.location = location;
+            this.subPath = subPath;
+            this.rootResources = rootResources;
+        }
+
+        @Override
+        protected void compute() {
+            final File[] files = location.toFile().listFiles();
+            if (files == null)
+                return;
+
+            final List<DirectoryDiscovery> subDirectories = new LinkedList<>();
+            runWith(classPath, context, () -> {
+                for (final File file : files) {
+                    if (file.isDirectory())
+                        subDirectories.add(new DirectoryDiscovery(classPath, context, location.resolve(file.getName()), subPath.resolve(file.getName()), rootResources));
+                    else if (file.isFile() && file.getName().endsWith(".class")) {
+                        final String classFileName = subPath.resolve(file.getName()).toString();
+                        discoverClass(toQualifiedClassName(classFileName), rootResources);
+                    }
+                }
+            });
+            invokeAll(subDirectories);
+        }
+
+    }
+
+    /**
+     * Analyzes a single resource class including the bytecode of its methods. Sub-resource classes which are registered
+     * meanwhile are analyzed by forked tasks.
+     */
+    private static class ClassAnalysis extends RecursiveAction {
+
+        private final AnalysisClassPath classPath;
+        private final String className;
+        private final ClassResult classResult;
+        private final AnalysisContext context;
+        private final Queue<ClassResult> classResults;
+
+        ClassAnalysis(final AnalysisClassPath classPath, final String className, final ClassResult classResult, final AnalysisContext context,
+                      final Queue<ClassResult> classResults) {
+            this.classPath = classPath;
+            this.className = className;
+            this.classResult = classResult;
+            this.context = context;
+            this.classResults = classResults;
+        }
+
+        @Override
+        protected void compute() {
+            classResults.add(classResult);
+            runWith(classPath, context, () -> {
+                analyzeClass(className, classResult);
+                // the analyzer holds per-method state and is therefore not shared between tasks
+                new BytecodeAnalyzer().analyzeBytecode(classResult);
+            });
+
+            invokeAll(pollClassAnalyses(classPath, context, classResults));
+        }
+
+    }
+
     /**
      * Adds all classes in the given jar-file location to the set of known classes.
      *
-     * @param location The location of the jar-file
+     * @param location      The location of the jar-file
+     * @param rootResources The queue where the root resource classes are added
      */
-    private void addJarClasses(final Path location) {
+    private void addJarClasses(final Path location, final StageQueue<String> rootResources) {
         try (final JarFile jarFile = new JarFile(location.toFile())) {
             final Enumeration<JarEntry> entries = jarFile.entries();
             while (entries.hasMoreElements()) {
                 final JarEntry entry = entries.nextElement();
                 final String entryName = entry.getName();
                 if (entryName.endsWith(".class"))
-                    classes.add(toQualifiedClassName(entryName));
+                    discoverClass(toQualifiedClassName(entryName), rootResources);
             }
         } catch (IOException e) {
             throw new IllegalArgumentException("Could not read jar-file '" + location + "', reason: " + e.getMessage());
         }
     }
 
-    /**
-     * Adds all classes in the given directory location to the set of known classes.
-     *
-     * @param location The location of the current directory
-     * @param subPath  The sub-path which is relevant for the package names or {@code null} if currently in the root directory
-     */
-    private void addDirectoryClasses(final Path location, final Path subPath) {
-        for (final File file : location.toFile().listFiles()) {
-            if (file.isDirectory())
-                addDirectoryClasses(location.resolve(file.getName()), subPath.resolve(file.getName()));
-            else if (file.isFile() && file.getName().endsWith(".class")) {
-                final String classFileName = subPath.resolve(file.getName()).toString();
-                classes.add(toQualifiedClassName(classFileName));
-            }
-        }
-    }
-
     /**
      * Converts the given file name of a class-file to the fully-qualified class name.
      *
@@ -0,0 +1,171 @@
+package com.github.mibo.jaxrsdoc.analysis;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded queue which connects two stages of the analysis. Producers block while the queue is full, so a fast stage
+ * can't run arbitrarily far ahead of a slow one. The consumer takes elements until the queue has been closed by the
+ * producing stage and is empty.
+ * <p>
+ * The queue records the number of passed elements, the maximum queue depth and the time producers have been blocked.
+ * Producers may run in a {@link ForkJoinPool}, blocking is announced to the pool via {@link ForkJoinPool#managedBlock}.
+ * This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class StageQueue<T> {
+
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private final String name;
+    private final int capacity;
+    private final BlockingQueue<T> queue;
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final AtomicLong passedElements = new AtomicLong();
+    private final AtomicLong blockedNanos = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    private volatile long lastTakeNanos;
+    private volatile boolean closed;
+
+    /**
+     * @param name     The name of the stage which consumes the elements
+     * @param capacity The maximum number of queued elements
+     */
+    public StageQueue(final String name, final int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("The capacity must be positive, was " + capacity);
+        this.name = name;
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Adds the element to the queue. Blocks while the queue is full.
+     *
+     * @param element The element
+     * @throws IllegalStateException If the queue has already been closed
+     */
+    public void put(final T element) {
+        if (closed)
+            throw new IllegalStateException("The queue " + name + " has already been closed");
+
+        if (!queue.offer(element)) {
+            final long start = System.nanoTime();
+            try {
+                ForkJoinPool.managedBlock(new PutBlocker(element));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for stage " + name, e);
+            }
+            blockedNanos.addAndGet(System.nanoTime() - start);
+        }
+
+        maxDepth.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    /**
+     * Returns the next element. Blocks until an element is available or the queue has been closed.
+     *
+     * @return The next element or {@code null} if the queue has been closed and all elements have been taken
+     */
+    public T take() {
+        try {
+            while (true) {
+                // the closed flag is read before polling, so no element which has been added before closing is missed
+                final boolean wasClosed = closed;
+                final T element = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (element != null) {
+                    passedElements.incrementAndGet();
+                    lastTakeNanos = System.nanoTime();
+                    return element;
+                }
+                if (wasClosed)
+                    return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for stage " + name, e);
+        }
+    }
+
+    /**
+     * Closes the queue, i.e. signals that no more elements will be added.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the current number of queued elements.
+     */
+    public int getDepth() {
+        return queue.size();
+    }
+
+    public int getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    public long getPassedElements() {
+        return passedElements.get();
+    }
+
+    public long getBlockedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(blockedNanos.get());
+    }
+
+    /**
+     * Returns the number of taken elements per second, measured from the creation of the queue until the last element was taken.
+     */
+    public double getThroughput() {
+        final long elapsedNanos = lastTakeNanos - startNanos;
+        if (elapsedNanos <= 0)
+            return 0;
+        return passedElements.get() * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Stage %s: %d elements, %.1f elements/s, max queue depth %d of %d, producers blocked %d ms",
+                name, getPassedElements(), getThroughput(), getMaxDepth(), capacity, getBlockedMillis());
+    }
+
+    private class PutBlocker implements ForkJoinPool.ManagedBlocker {
+
+        private final T element;
+        private boolean added;
+
+        PutBlocker(final T element) {
+            this.element = element;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (!added) {
+                queue.put(element);
+                added = true;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return added || (added = queue.offer(element));
+        }
+
+    }
+
+}
@@ -25,6 +25,8 @@ public class BytecodeAnalyzer {
         } else {
             methodContentAnalyzer.analyze(methodResult);
         }
+        // the raw bytecode would otherwise be retained until the end of the analysis
+        methodResult.releaseInstructions();
     }
 
 }
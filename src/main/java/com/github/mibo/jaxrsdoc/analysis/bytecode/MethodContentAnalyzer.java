@@ -16,22 +16,12 @@
 
 package com.github.mibo.jaxrsdoc.analysis.bytecode;
 
-import com.github.mibo.jaxrsdoc.LogProvider;
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
 import com.github.mibo.jaxrsdoc.analysis.bytecode.reduction.RelevantInstructionReducer;
 import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
-import com.github.mibo.jaxrsdoc.model.instructions.InvokeInstruction;
 import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
-import com.github.mibo.jaxrsdoc.model.methods.ProjectMethod;
-import com.github.mibo.jaxrsdoc.model.results.MethodResult;
-import com.github.mibo.jaxrsdoc.analysis.classes.ContextClassReader;
-import com.github.mibo.jaxrsdoc.analysis.classes.ProjectMethodClassVisitor;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassVisitor;
 
-import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -77,82 +67,22 @@ abstract class MethodContentAnalyzer {
     }
 
     /**
-     * Searches for own project method invoke instructions in the given list.
+     * Resolves the own project methods which are invoked by the given instructions, directly or transitively.
+     * The project methods are added to the method pool and summarized bottom-up in the call graph of the analysis run.
      *
      * @param instructions The instructions where to search
-     * @return The found project methods
      */
-    Set<ProjectMethod> findProjectMethods(final List<Instruction> instructions) {
-        final Set<ProjectMethod> projectMethods = new HashSet<>();
-
-        addProjectMethods(instructions, projectMethods);
-
-        return projectMethods;
+    void resolveProjectMethods(final List<Instruction> instructions) {
+        AnalysisContext.current().getCallGraph().resolve(instructions, this::isProjectMethod);
     }
 
     /**
-     * Adds all project methods called in the given {@code instructions} to the {@code projectMethods} recursively.
+     * Checks if the given method is defined in the analyzed project.
      *
-     * @param instructions   The instructions of the current method
-     * @param projectMethods All found project methods
-     */
-    private void addProjectMethods(final List<Instruction> instructions, final Set<ProjectMethod> projectMethods) {
-        Set<MethodIdentifier> projectMethodIdentifiers = findUnhandledProjectMethodIdentifiers(instructions, projectMethods);
-
-        for (MethodIdentifier identifier : projectMethodIdentifiers) {
-            // TODO cache results -> singleton pool?
-
-            final MethodResult methodResult = visitProjectMethod(identifier);
-            if (methodResult == null) {
-                continue;
-            }
-
-            final List<Instruction> nestedMethodInstructions = interpretRelevantInstructions(methodResult.getInstructions());
-            projectMethods.add(new ProjectMethod(identifier, nestedMethodInstructions));
-            addProjectMethods(nestedMethodInstructions, projectMethods);
-        }
-    }
-
-    private MethodResult visitProjectMethod(MethodIdentifier identifier) {
-        try {
-            final ClassReader classReader = new ContextClassReader(identifier.getContainingClass());
-            final MethodResult methodResult = new MethodResult();
-            methodResult.setOriginalMethodSignature(identifier);
-            final ClassVisitor visitor = new ProjectMethodClassVisitor(methodResult, identifier);
-
-            classReader.accept(visitor, ClassReader.EXPAND_FRAMES);
-            return methodResult;
-        } catch (IOException e) {
-            LogProvider.error("Could not analyze project method " + identifier.getContainingClass() + "#" + identifier.getMethodName());
-            LogProvider.debug(e);
-            return null;
-        }
-    }
-
-    /**
-     * Returns project method identifiers of invoke instructions which are not included in the {@code projectMethods}.
-     *
-     * @param instructions   The instructions of the current method
-     * @param projectMethods All found project methods
-     * @return The new method identifiers of unhandled project method invoke instructions
-     */
-    private Set<MethodIdentifier> findUnhandledProjectMethodIdentifiers(final List<Instruction> instructions, final Set<ProjectMethod> projectMethods) {
-        // find own methods
-        return instructions.stream().filter(i -> i.getType() == Instruction.InstructionType.INVOKE || i.getType() == Instruction.InstructionType.METHOD_HANDLE)
-                .map(i -> (InvokeInstruction) i).filter(this::isProjectMethod).map(InvokeInstruction::getIdentifier)
-                .filter(i -> projectMethods.stream().noneMatch(m -> m.matches(i)))
-                .collect(Collectors.toSet());
-    }
-
-    /**
-     * Checks if the given instruction invokes a method defined in the analyzed project.
-     *
-     * @param instruction The invoke instruction
+     * @param identifier The method identifier
      * @return {@code true} if method was defined in the project
      */
-    private boolean isProjectMethod(final InvokeInstruction instruction) {
-        final MethodIdentifier identifier = instruction.getIdentifier();
-
+    private boolean isProjectMethod(final MethodIdentifier identifier) {
         // check if method is in own package
         return identifier.getContainingClass().startsWith(projectPackagePrefix);
     }
@@ -0,0 +1,294 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode;
+
+import com.github.mibo.jaxrsdoc.LogProvider;
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
+import com.github.mibo.jaxrsdoc.analysis.bytecode.reduction.RelevantInstructionReducer;
+import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.MethodSummarizer;
+import com.github.mibo.jaxrsdoc.analysis.classes.AnalysisClassPath;
+import com.github.mibo.jaxrsdoc.analysis.classes.ContextClassReader;
+import com.github.mibo.jaxrsdoc.analysis.classes.ProjectMethodClassVisitor;
+import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
+import com.github.mibo.jaxrsdoc.model.instructions.InvokeInstruction;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+import com.github.mibo.jaxrsdoc.model.methods.ProjectMethod;
+import com.github.mibo.jaxrsdoc.model.results.MethodResult;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * The call graph of the project methods of a single analysis run. Every project method is visited and reduced only once per run
+ * and added to the method pool of the run.
+ * <p>
+ * The methods are summarized bottom-up in the order of the strongly connected components of the graph, so that the callees
+ * are summarized before their callers. Independent components are summarized in parallel. This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class ProjectCallGraph {
+
+    private final Map<MethodIdentifier, Node> nodes = new ConcurrentHashMap<>();
+    private final MethodSummarizer summarizer = new MethodSummarizer();
+
+    /**
+     * Resolves all project methods which are invoked by the given instructions, directly or transitively.
+     * The found methods are added to the method pool and summarized.
+     *
+     * @param instructions  The instructions of the analyzed method
+     * @param projectMethod The predicate which decides if an invoked method is defined in the project
+     */
+    void resolve(final List<Instruction> instructions, final Predicate<MethodIdentifier> projectMethod) {
+        final Set<Node> reachable = new LinkedHashSet<>();
+        final RelevantInstructionReducer instructionReducer = new RelevantInstructionReducer();
+
+        Set<MethodIdentifier> identifiers = findInvokedMethods(instructions).stream().filter(projectMethod).collect(Collectors.toSet());
+        while (!identifiers.isEmpty()) {
+            visitProjectMethods(identifiers.stream().filter(i -> !nodes.containsKey(i)).collect(Collectors.toSet()), instructionReducer);
+
+            final Set<MethodIdentifier> nestedIdentifiers = new HashSet<>();
+            identifiers.stream().map(nodes::get).filter(reachable::add).filter(n -> n.method != null)
+                    .forEach(n -> n.invokedMethods.stream().filter(projectMethod).forEach(nestedIdentifiers::add));
+            identifiers = nestedIdentifiers;
+        }
+
+        summarize(reachable, projectMethod);
+    }
+
+    /**
+     * Returns the number of resolved project methods.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Extracts the given project methods and adds them to the graph. The methods are grouped by their containing class, which is visited only once.
+     *
+     * @param identifiers        The project methods to visit
+     * @param instructionReducer The reducer for the instructions of the project methods
+     */
+    private void visitProjectMethods(final Set<MethodIdentifier> identifiers, final RelevantInstructionReducer instructionReducer) {
+        final Map<String, Map<MethodIdentifier, MethodResult>> classMethods = new LinkedHashMap<>();
+        identifiers.forEach(identifier -> {
+            final MethodResult methodResult = new MethodResult();
+            methodResult.setOriginalMethodSignature(identifier);
+            classMethods.computeIfAbsent(identifier.getContainingClass(), c -> new LinkedHashMap<>()).put(identifier, methodResult);
+        });
+
+        classMethods.forEach((className, methods) -> {
+            try {
+                final ClassReader classReader = new ContextClassReader(className);
+                final ClassVisitor visitor = new ProjectMethodClassVisitor(methods);
+
+                classReader.accept(visitor, ClassReader.EXPAND_FRAMES);
+                methods.forEach((identifier, methodResult) -> {
+                    final List<Instruction> instructions = instructionReducer.reduceInstructions(methodResult.getInstructions());
+                    final ProjectMethod method = new ProjectMethod(identifier, instructions);
+                    if (nodes.putIfAbsent(identifier, new Node(method, findInvokedMethods(instructions))) == null)
+                        AnalysisContext.current().getMethodPool().addProjectMethod(method);
+                });
+            } catch (IOException e) {
+                methods.keySet().forEach(identifier -> {
+                    LogProvider.error("Could not analyze project method " + className + "#" + identifier.getMethodName());
+                    nodes.putIfAbsent(identifier, new Node(null, Collections.emptySet()));
+                });
+                LogProvider.debug(e);
+            }
+        });
+    }
+
+    private static Set<MethodIdentifier> findInvokedMethods(final List<Instruction> instructions) {
+        return instructions.stream().filter(i -> i.getType() == Instruction.InstructionType.INVOKE || i.getType() == Instruction.InstructionType.METHOD_HANDLE)
+                .map(i -> ((InvokeInstruction) i).getIdentifier()).collect(Collectors.toSet());
+    }
+
+    /**
+     * Summarizes the reachable methods which haven't been summarized yet, level by level from the callees to the callers.
+     */
+    private void summarize(final Set<Node> reachable, final Predicate<MethodIdentifier> projectMethod) {
+        final Set<Node> claimed = Collections.newSetFromMap(new IdentityHashMap<>());
+        reachable.stream().filter(n -> n.method != null && n.summarized.compareAndSet(false, true)).forEach(claimed::add);
+        if (claimed.isEmpty())
+            return;
+
+        final List<List<Component>> levels = new ArrayList<>();
+        final Map<Node, Component> components = new IdentityHashMap<>();
+        for (final List<Node> members : findStronglyConnectedComponents(claimed, projectMethod)) {
+            // the callee components are always found first
+            final Component component = new Component(members);
+            final Set<Node> memberSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            memberSet.addAll(members);
+
+            int level = 0;
+            for (final Node member : members) {
+                for (final Node callee : callees(member, claimed, projectMethod)) {
+                    if (memberSet.contains(callee))
+                        component.recursive = true;
+                    else
+                        level = Math.max(level, components.get(callee).level + 1);
+                }
+            }
+            component.level = level;
+            members.forEach(m -> components.put(m, component));
+
+            while (levels.size() <= level)
+                levels.add(new LinkedList<>());
+            levels.get(level).add(component);
+        }
+
+        final AnalysisContext context = AnalysisContext.current();
+        final AnalysisClassPath classPath = AnalysisClassPath.current();
+        levels.forEach(level -> ForkJoinTask.invokeAll(level.stream().map(c -> new ComponentSummary(c, summarizer, context, classPath))
+                .collect(Collectors.toList())));
+    }
+
+    private List<Node> callees(final Node node, final Set<Node> claimed, final Predicate<MethodIdentifier> projectMethod) {
+        return node.invokedMethods.stream().filter(projectMethod).map(nodes::get).filter(n -> n != null && claimed.contains(n)).collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the strongly connected components of the given nodes with Tarjan's algorithm.
+     * The components are returned in reverse topological order, i.e. the callees before the callers.
+     */
+    private List<List<Node>> findStronglyConnectedComponents(final Set<Node> graph, final Predicate<MethodIdentifier> projectMethod) {
+        final List<List<Node>> components = new LinkedList<>();
+        final Map<Node, Integer> indexes = new IdentityHashMap<>();
+        final Map<Node, Integer> lowLinks = new IdentityHashMap<>();
+        final Set<Node> onStack = Collections.newSetFromMap(new IdentityHashMap<>());
+        final LinkedList<Node> stack = new LinkedList<>();
+
+        for (final Node root : graph) {
+            if (indexes.containsKey(root))
+                continue;
+
+            // iterative depth-first search, every frame holds a node and the iterator of its callees
+            final LinkedList<Frame> frames = new LinkedList<>();
+            frames.push(visit(root, graph, projectMethod, indexes, lowLinks, onStack, stack));
+
+            while (!frames.isEmpty()) {
+                final Frame frame = frames.peek();
+                if (frame.callees.hasNext()) {
+                    final Node callee = frame.callees.next();
+                    if (!indexes.containsKey(callee))
+                        frames.push(visit(callee, graph, projectMethod, indexes, lowLinks, onStack, stack));
+                    else if (onStack.contains(callee))
+                        lowLinks.put(frame.node, Math.min(lowLinks.get(frame.node), indexes.get(callee)));
+                    continue;
+                }
+
+                frames.pop();
+                if (!frames.isEmpty())
+                    lowLinks.put(frames.peek().node, Math.min(lowLinks.get(frames.peek().node), lowLinks.get(frame.node)));
+
+                if (lowLinks.get(frame.node).equals(indexes.get(frame.node))) {
+                    final List<Node> component = new LinkedList<>();
+                    Node member;
+                    do {
+                        member = stack.pop();
+                        onStack.remove(member);
+                        component.add(member);
+                    } while (member != frame.node);
+                    components.add(component);
+                }
+            }
+        }
+
+        return components;
+    }
+
+    private Frame visit(final Node node, final Set<Node> graph, final Predicate<MethodIdentifier> projectMethod, final Map<Node, Integer> indexes,
+                        final Map<Node, Integer> lowLinks, final Set<Node> onStack, final LinkedList<Node> stack) {
+        indexes.put(node, indexes.size());
+        lowLinks.put(node, indexes.get(node));
+        stack.push(node);
+        onStack.add(node);
+        return new Frame(node, callees(node, graph, projectMethod));
+    }
+
+    /**
+     * A project method with the identifiers of all methods it invokes.
+     */
+    private static class Node {
+
+        private final ProjectMethod method;
+        private final Set<MethodIdentifier> invokedMethods;
+        private final AtomicBoolean summarized = new AtomicBoolean();
+
+        private Node(final ProjectMethod method, final Set<MethodIdentifier> invokedMethods) {
+            this.method = method;
+            this.invokedMethods = invokedMethods;
+        }
+
+    }
+
+    private static class Frame {
+
+        private final Node node;
+        private final Iterator<Node> callees;
+
+        private Frame(final Node node, final List<Node> callees) {
+            this.node = node;
+            this.callees = callees.iterator();
+        }
+
+    }
+
+    /**
+     * A strongly connected component of the call graph.
+     */
+    private static class Component {
+
+        private final List<ProjectMethod> methods;
+        private boolean recursive;
+        private int level;
+
+        private Component(final List<Node> members) {
+            this.methods = members.stream().map(n -> n.method).collect(Collectors.toList());
+        }
+
+    }
+
+    /**
+     * Summarizes a component with the context and class path of the analysis run.
+     */
+    private static class ComponentSummary extends RecursiveAction {
+
+        private final Component component;
+        private final MethodSummarizer summarizer;
+        private final AnalysisContext context;
+        private final AnalysisClassPath classPath;
+
+        private ComponentSummary(final Component component, final MethodSummarizer summarizer, final AnalysisContext context, final AnalysisClassPath classPath) {
+            this.component = component;
+            this.summarizer = summarizer;
+            this.context = context;
+            this.classPath = classPath;
+        }
+
+        @Override
+        protected void compute() {
+            AnalysisContext.runWith(context, () -> AnalysisClassPath.runWith(classPath,
+                    () -> summarizer.summarize(component.methods, component.recursive)));
+        }
+
+    }
+
+}
@@ -16,14 +16,14 @@
 
 package com.github.mibo.jaxrsdoc.analysis.bytecode;
 
-import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.MethodPool;
+import com.github.mibo.jaxrsdoc.LogProvider;
 import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.MethodSimulator;
+import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.SimulationBudgetExceededException;
 import com.github.mibo.jaxrsdoc.model.Types;
 import com.github.mibo.jaxrsdoc.model.elements.Element;
 import com.github.mibo.jaxrsdoc.model.elements.HttpResponse;
 import com.github.mibo.jaxrsdoc.model.elements.JsonValue;
 import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
-import com.github.mibo.jaxrsdoc.model.methods.ProjectMethod;
 import com.github.mibo.jaxrsdoc.model.results.MethodResult;
 
 import java.util.List;
@@ -53,14 +53,18 @@ class ResourceMethodContentAnalyzer extends MethodContentAnalyzer {
 
             final List<Instruction> visitedInstructions = interpretRelevantInstructions(methodResult.getInstructions());
 
-            // find project defined methods in invoke occurrences
-            final Set<ProjectMethod> projectMethods = findProjectMethods(visitedInstructions);
+            // find project defined methods in invoke occurrences and add them to the method pool
+            resolveProjectMethods(visitedInstructions);
 
-            // add project methods to global method pool
-            projectMethods.forEach(MethodPool.getInstance()::addProjectMethod);
-
-            Element returnedElement = new MethodSimulator().simulate(visitedInstructions);
             final String returnType = methodResult.getOriginalMethodSignature().getReturnType();
+            Element returnedElement;
+            try {
+                returnedElement = new MethodSimulator().simulate(visitedInstructions);
+            } catch (SimulationBudgetExceededException e) {
+                LogProvider.error("Simulation of " + methodResult.getOriginalMethodSignature() + " aborted, " + e.getMessage()
+                        + ", using the declared return type");
+                returnedElement = new Element(returnType);
+            }
 
             // void resource methods are interpreted later; stop analyzing on error
             if (Types.PRIMITIVE_VOID.equals(returnType)) {
@@ -16,13 +16,13 @@
 
 package com.github.mibo.jaxrsdoc.analysis.bytecode;
 
-import com.github.mibo.jaxrsdoc.analysis.JobRegistry;
-import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.MethodPool;
+import com.github.mibo.jaxrsdoc.LogProvider;
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
 import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.MethodSimulator;
+import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.SimulationBudgetExceededException;
 import com.github.mibo.jaxrsdoc.model.JavaUtils;
 import com.github.mibo.jaxrsdoc.model.elements.Element;
 import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
-import com.github.mibo.jaxrsdoc.model.methods.ProjectMethod;
 import com.github.mibo.jaxrsdoc.model.results.ClassResult;
 import com.github.mibo.jaxrsdoc.model.results.MethodResult;
 
@@ -69,13 +69,18 @@ class SubResourceLocatorMethodContentAnalyzer extends MethodContentAnalyzer {
     private Set<String> determineReturnTypes(final MethodResult result) {
         final List<Instruction> visitedInstructions = interpretRelevantInstructions(result.getInstructions());
 
-        // find project defined methods in invoke occurrences
-        final Set<ProjectMethod> projectMethods = findProjectMethods(visitedInstructions);
+        // find project defined methods in invoke occurrences and add them to the method pool
+        resolveProjectMethods(visitedInstructions);
 
-        // add project methods to global method pool
-        projectMethods.forEach(MethodPool.getInstance()::addProjectMethod);
+        final Element returnedElement;
+        try {
+            returnedElement = simulator.simulate(visitedInstructions);
+        } catch (SimulationBudgetExceededException e) {
+            LogProvider.error("Simulation of " + result.getOriginalMethodSignature() + " aborted, " + e.getMessage()
+                    + ", using the declared return type");
+            return singleton(result.getOriginalMethodSignature().getReturnType());
+        }
 
-        final Element returnedElement = simulator.simulate(visitedInstructions);
         if (returnedElement == null) {
             // happens for abstract methods or if there is no return
             return singleton(result.getOriginalMethodSignature().getReturnType());
@@ -86,7 +91,7 @@ class SubResourceLocatorMethodContentAnalyzer extends MethodContentAnalyzer {
 
     private void registerSubResourceJob(final String type, final ClassResult classResult) {
         final String className = JavaUtils.toClassName(type);
-        JobRegistry.getInstance().analyzeResourceClass(className, classResult);
+        AnalysisContext.current().getJobRegistry().analyzeResourceClass(className, classResult);
     }
 
 }
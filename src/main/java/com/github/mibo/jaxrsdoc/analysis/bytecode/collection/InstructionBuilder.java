@@ -1,6 +1,6 @@
 package com.github.mibo.jaxrsdoc.analysis.bytecode.collection;
 
-import com.github.mibo.jaxrsdoc.LogProvider;
+import com.github.mibo.jaxrsdoc.analysis.classes.AnalysisClassPath;
 import com.github.mibo.jaxrsdoc.model.Types;
 import com.github.mibo.jaxrsdoc.model.instructions.*;
 import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
@@ -8,8 +8,6 @@ import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.Opcodes;
 
-import java.lang.reflect.Field;
-
 import static org.objectweb.asm.Opcodes.*;
 import static org.objectweb.asm.util.Printer.OPCODES;
 
@@ -287,18 +285,7 @@ public final class InstructionBuilder {
     }
 
     private static Object getStaticValue(String name, String containingClass) {
-        final Field field;
-        try {
-            // needs to load same class instance in Maven plugin, not from extended classloader
-            final Class<?> clazz = Class.forName(containingClass.replace('/', '.'));
-            field = clazz.getDeclaredField(name);
-            field.setAccessible(true);
-            return field.get(null);
-        } catch (Exception e) {
-            LogProvider.error("Could not access static property, reason: " + e.getMessage());
-            LogProvider.debug(e);
-            return null;
-        }
+        return AnalysisClassPath.current().getStaticFieldValues().getValue(containingClass, name);
     }
 
 }
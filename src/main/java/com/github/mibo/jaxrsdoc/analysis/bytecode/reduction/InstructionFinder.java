@@ -17,14 +17,9 @@
 package com.github.mibo.jaxrsdoc.analysis.bytecode.reduction;
 
 import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
-import com.github.mibo.jaxrsdoc.model.instructions.LoadInstruction;
 import com.github.mibo.jaxrsdoc.model.instructions.LoadStoreInstruction;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.function.Predicate;
 
 /**
  * Searches for specific instruction occurrences in the byte code.
@@ -38,59 +33,56 @@ final class InstructionFinder {
     }
 
     /**
-     * Searches for all LOAD indexes which occur in the given instructions.
-     * The LOAD instruction is checked against the given predicate if it should be ignored.
+     * Builds the index of all LOAD &amp; STORE occurrences per local variable index.
      *
-     * @param instructions  The instructions where to search
-     * @param isLoadIgnored The ignore predicate
-     * @return All found LOAD indexes
-     */
-    static Set<Integer> findLoadIndexes(final List<Instruction> instructions, final Predicate<LoadInstruction> isLoadIgnored) {
-        return instructions.stream().filter(i -> i.getType() == Instruction.InstructionType.LOAD).map(i -> (LoadInstruction) i)
-                .filter(i -> !isLoadIgnored.test(i)).map(LoadInstruction::getNumber).collect(TreeSet::new, Set::add, Set::addAll);
-    }
-
-    /**
-     * Searches for all LOAD &amp; STORE occurrences with {@code index} in the given instructions.
-     *
-     * @param index        The LOAD / STORE index
      * @param instructions The instructions where to search
-     * @return The positions of all found LOAD_{@code index} / STORE_{@code index}
+     * @return The ascending positions of all LOAD_{@code index} / STORE_{@code index}, indexed by the LOAD / STORE index
      */
-    static Set<Integer> findLoadStores(final int index, final List<Instruction> instructions) {
-        final Predicate<Instruction> loadStoreType = instruction -> instruction.getType() == Instruction.InstructionType.LOAD
-                || instruction.getType() == Instruction.InstructionType.STORE;
-        return find(loadStoreType.and(instruction -> ((LoadStoreInstruction) instruction).getNumber() == index), instructions);
-    }
+    static int[][] findLoadStorePositions(final List<Instruction> instructions) {
+        final int[] counts = new int[maxLoadStoreIndex(instructions) + 1];
+        for (final Instruction instruction : instructions) {
+            if (isLoadStore(instruction))
+                counts[((LoadStoreInstruction) instruction).getNumber()]++;
+        }
 
-    /**
-     * Searches for return instructions in the given instructions.
-     *
-     * @param instructions The instructions where to search
-     * @return The positions of all found return instructions
-     */
-    static Set<Integer> findReturnsAndThrows(final List<Instruction> instructions) {
-        return find(instruction -> instruction.getType() == Instruction.InstructionType.RETURN || instruction.getType() == Instruction.InstructionType.THROW, instructions);
+        final int[][] positions = new int[counts.length][];
+        for (int index = 0; index < counts.length; index++) {
+            positions[index] = new int[counts[index]];
+            counts[index] = 0;
+        }
+
+        for (int position = 0; position < instructions.size(); position++) {
+            final Instruction instruction = instructions.get(position);
+            if (isLoadStore(instruction)) {
+                final int index = ((LoadStoreInstruction) instruction).getNumber();
+                positions[index][counts[index]++] = position;
+            }
+        }
+
+        return positions;
     }
 
     /**
-     * Searches for certain instruction positions be testing against the predicate.
+     * Checks if the given instruction is a return or throw instruction.
      *
-     * @param predicate    The criteria predicate
-     * @param instructions The instructions where to search
-     * @return The positions of all matching instructions
+     * @param instruction The instruction to check
+     * @return {@code true} if the instruction returns or throws
      */
-    private static Set<Integer> find(final Predicate<Instruction> predicate, final List<Instruction> instructions) {
-        final Set<Integer> positions = new HashSet<>();
+    static boolean isReturnOrThrow(final Instruction instruction) {
+        return instruction.getType() == Instruction.InstructionType.RETURN || instruction.getType() == Instruction.InstructionType.THROW;
+    }
 
-        for (int i = 0; i < instructions.size(); i++) {
-            final Instruction instruction = instructions.get(i);
-            if (predicate.test(instruction)) {
-                positions.add(i);
-            }
+    private static int maxLoadStoreIndex(final List<Instruction> instructions) {
+        int maxIndex = -1;
+        for (final Instruction instruction : instructions) {
+            if (isLoadStore(instruction))
+                maxIndex = Math.max(maxIndex, ((LoadStoreInstruction) instruction).getNumber());
         }
+        return maxIndex;
+    }
 
-        return positions;
+    private static boolean isLoadStore(final Instruction instruction) {
+        return instruction.getType() == Instruction.InstructionType.LOAD || instruction.getType() == Instruction.InstructionType.STORE;
     }
 
 }
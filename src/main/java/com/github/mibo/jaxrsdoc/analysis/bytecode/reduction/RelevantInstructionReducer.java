@@ -19,10 +19,12 @@ package com.github.mibo.jaxrsdoc.analysis.bytecode.reduction;
 import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
 import com.github.mibo.jaxrsdoc.model.instructions.LoadInstruction;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -38,7 +40,6 @@ public class RelevantInstructionReducer {
     private static final String[] VARIABLE_NAMES_TO_IGNORE = {"this"};
     private final Lock lock = new ReentrantLock();
     private final StackSizeSimulator stackSizeSimulator = new StackSizeSimulator();
-    private List<Instruction> instructions;
 
     /**
      * Returns all instructions which are somewhat "relevant" for the returned object of the method.
@@ -51,7 +52,6 @@ public class RelevantInstructionReducer {
     public List<Instruction> reduceInstructions(final List<Instruction> instructions) {
         lock.lock();
         try {
-            this.instructions = instructions;
             stackSizeSimulator.buildStackSizes(instructions);
 
             return reduceInstructionsInternal(instructions);
@@ -61,38 +61,67 @@ public class RelevantInstructionReducer {
     }
 
     /**
-     * Returns all reduced instructions.
+     * Returns all reduced instructions. Every statement is visited at most once, starting from the return and throw statements.
+     * The backtrack positions are processed in the order they have been found.
      *
      * @param instructions All instructions
      * @return The relevant instructions
      */
     private List<Instruction> reduceInstructionsInternal(final List<Instruction> instructions) {
-        final List<Instruction> visitedInstructions = new LinkedList<>();
-        final Set<Integer> visitedInstructionPositions = new HashSet<>();
-        final Set<Integer> handledLoadIndexes = new HashSet<>();
-        final Set<Integer> backtrackPositions = new LinkedHashSet<>(findSortedBacktrackPositions());
+        final int size = instructions.size();
+        final List<Instruction> visitedInstructions = new ArrayList<>();
+        final BitSet visitedInstructionPositions = new BitSet(size);
+        final BitSet handledLoadIndexes = new BitSet();
+        final int[][] loadStorePositions = InstructionFinder.findLoadStorePositions(instructions);
+
+        // every position is added to the worklist at most once
+        final int[] backtrackPositions = new int[size];
+        final BitSet foundBacktrackPositions = new BitSet(size);
+        final BitSet loadStoreBacktrackPositions = new BitSet(size);
+        int head = 0;
+        int tail = 0;
 
-        while (!visitedInstructionPositions.containsAll(backtrackPositions)) {
-
-            // unvisited backtrack position
-            final int backtrackPosition = backtrackPositions.stream().filter(pos -> !visitedInstructionPositions.contains(pos))
-                    .findFirst().orElseThrow(IllegalStateException::new);
-
-            final List<Integer> lastVisitedPositions = stackSizeSimulator.simulateStatementBackwards(backtrackPosition);
-            final List<Instruction> lastVisitedInstructions = lastVisitedPositions.stream().map(instructions::get).collect(Collectors.toList());
-
-            visitedInstructionPositions.addAll(lastVisitedPositions);
-            visitedInstructions.addAll(lastVisitedInstructions);
-
-            // unhandled load indexes
-            final Set<Integer> unhandledLoadIndexes = findUnhandledLoadIndexes(handledLoadIndexes, lastVisitedInstructions);
-
-            // for each load occurrence index -> find load/store backtrack positions (reverse order matters here)
-            final SortedSet<Integer> loadStoreBacktrackPositions = findLoadStoreBacktrackPositions(unhandledLoadIndexes);
-
-            handledLoadIndexes.addAll(unhandledLoadIndexes);
+        // start with last return
+        for (int position = size - 1; position >= 0; position--) {
+            if (InstructionFinder.isReturnOrThrow(instructions.get(position))) {
+                foundBacktrackPositions.set(position);
+                backtrackPositions[tail++] = position;
+            }
+        }
 
-            loadStoreBacktrackPositions.stream().forEach(backtrackPositions::add);
+        while (head < tail) {
+            final int backtrackPosition = backtrackPositions[head++];
+            if (visitedInstructionPositions.get(backtrackPosition))
+                continue;
+
+            final int statementStart = stackSizeSimulator.findStatementStart(backtrackPosition);
+            visitedInstructionPositions.set(statementStart, backtrackPosition + 1);
+            for (int position = backtrackPosition; position >= statementStart; position--)
+                visitedInstructions.add(instructions.get(position));
+
+            // for each unhandled load index -> find load/store backtrack positions
+            loadStoreBacktrackPositions.clear();
+            for (int position = statementStart; position <= backtrackPosition; position++) {
+                final Instruction instruction = instructions.get(position);
+                if (instruction.getType() != Instruction.InstructionType.LOAD || isLoadIgnored((LoadInstruction) instruction))
+                    continue;
+
+                final int index = ((LoadInstruction) instruction).getNumber();
+                if (handledLoadIndexes.get(index))
+                    continue;
+
+                handledLoadIndexes.set(index);
+                for (final int loadStorePosition : loadStorePositions[index])
+                    loadStoreBacktrackPositions.set(stackSizeSimulator.findBacktrackPosition(loadStorePosition));
+            }
+
+            // reverse order matters here
+            for (int position = loadStoreBacktrackPositions.length() - 1; position >= 0; position = loadStoreBacktrackPositions.previousSetBit(position - 1)) {
+                if (!foundBacktrackPositions.get(position)) {
+                    foundBacktrackPositions.set(position);
+                    backtrackPositions[tail++] = position;
+                }
+            }
         }
 
         // sort in method natural order
@@ -101,28 +130,6 @@ public class RelevantInstructionReducer {
         return visitedInstructions;
     }
 
-    private List<Integer> findSortedBacktrackPositions() {
-        final List<Integer> startPositions = new LinkedList<>(InstructionFinder.findReturnsAndThrows(instructions));
-
-        // start with last return
-        Collections.sort(startPositions, Comparator.reverseOrder());
-        return startPositions;
-    }
-
-
-    /**
-     * Searches for load indexes in the {@code lastVisitedInstructions} which are not contained in {@code handledLoadIndexes}.
-     *
-     * @param handledLoadIndexes      The load indexed which have been handled so far
-     * @param lastVisitedInstructions The last visited instructions
-     * @return The unhandled load indexes
-     */
-    private Set<Integer> findUnhandledLoadIndexes(final Set<Integer> handledLoadIndexes, final List<Instruction> lastVisitedInstructions) {
-        final Set<Integer> lastLoadIndexes = InstructionFinder.findLoadIndexes(lastVisitedInstructions, RelevantInstructionReducer::isLoadIgnored);
-
-        return lastLoadIndexes.stream().filter(k -> !handledLoadIndexes.contains(k)).collect(Collectors.toSet());
-    }
-
     /**
      * Checks if the given LOAD instruction should be ignored for backtracking.
      *
@@ -133,17 +140,4 @@ public class RelevantInstructionReducer {
         return Stream.of(VARIABLE_NAMES_TO_IGNORE).anyMatch(instruction.getName()::equals);
     }
 
-    /**
-     * Returns all backtrack positions of the given LOAD / STORE indexes in the instructions.
-     * The backtrack positions of both LOAD and store instructions are the next positions where the runtime stack size is {@code 0}.
-     *
-     * @param unhandledLoadIndexes The LOAD/STORE indexes to find
-     * @return The backtrack positions of the LOAD / STORE indexes
-     */
-    private SortedSet<Integer> findLoadStoreBacktrackPositions(final Set<Integer> unhandledLoadIndexes) {
-        return unhandledLoadIndexes.stream()
-                .map(index -> stackSizeSimulator.findLoadStoreBacktrackPositions(InstructionFinder.findLoadStores(index, instructions)))
-                .collect(() -> new TreeSet<>(Comparator.reverseOrder()), Set::addAll, Set::addAll);
-    }
-
 }
@@ -17,32 +17,50 @@
 package com.github.mibo.jaxrsdoc.analysis.bytecode.reduction;
 
 import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
-import com.github.mibo.jaxrsdoc.utils.Pair;
 
-import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.List;
 
 /**
  * Simulates runtime stack sizes of instructions.
+ * The statement boundaries, i.e. the positions where the runtime stack is empty, are precomputed for every position.
  *
  * @author Sebastian Daschner
  */
 class StackSizeSimulator {
 
-    private List<Pair<Integer, Integer>> stackSizes;
+    /**
+     * The runtime stack sizes after the instructions were executed.
+     */
+    private int[] stackSizes;
+
+    /**
+     * The previous position with an empty runtime stack before the instruction, for every position.
+     */
+    private int[] statementStarts;
+
+    /**
+     * The next position with an empty runtime stack after the instruction, for every position, or {@code -1} if there is none.
+     */
+    private int[] statementEnds;
 
     /**
-     * Initializes the runtime stack sizes with the given instructions. This has to be called before {@link StackSizeSimulator#simulateStatementBackwards}
+     * Initializes the runtime stack sizes with the given instructions. This has to be called before {@link StackSizeSimulator#findStatementStart}
      *
      * @param instructions The instructions to simulate
      */
     void buildStackSizes(final List<Instruction> instructions) {
-        stackSizes = new ArrayList<>();
+        final int size = instructions.size();
+        stackSizes = new int[size];
+        statementStarts = new int[size];
+        statementEnds = new int[size];
+
         int stackSize = 0;
+        int statementStart = 0;
 
-        for (Instruction instruction : instructions) {
-            final int previousStackSize = stackSize;
+        for (int position = 0; position < size; position++) {
+            final Instruction instruction = instructions.get(position);
+            if (stackSize == 0)
+                statementStart = position;
 
             stackSize += instruction.getStackSizeDifference();
 
@@ -53,7 +71,15 @@ class StackSizeSimulator {
                 throw new IllegalStateException("Runtime stack under-flow occurred.");
             }
 
-            stackSizes.add(Pair.of(previousStackSize, stackSize));
+            stackSizes[position] = stackSize;
+            statementStarts[position] = statementStart;
+        }
+
+        int statementEnd = -1;
+        for (int position = size - 1; position >= 0; position--) {
+            if (stackSizes[position] == 0)
+                statementEnd = position;
+            statementEnds[position] = statementEnd;
         }
     }
 
@@ -68,52 +94,29 @@ class StackSizeSimulator {
     }
 
     /**
-     * Returns the instruction positions which are visited <i>backwards</i> from {@code backtrackPosition}
-     * until the runtime stack is empty.
+     * Returns the first position of the statement which ends at {@code backtrackPosition},
+     * i.e. the previous position where the runtime stack is empty before the instruction is executed.
+     * The statement consists of all positions from the returned position to {@code backtrackPosition}.
      *
      * @param backtrackPosition The backtrack position where to start
-     * @return All positions <i>backwards</i> until the previous empty position
-     */
-    List<Integer> simulateStatementBackwards(final int backtrackPosition) {
-        // search for previous zero-position in stackSizes
-        int currentPosition = backtrackPosition;
-
-        // check against stack size before the instruction was executed
-        while (stackSizes.get(currentPosition).getLeft() > 0) {
-            currentPosition--;
-        }
-
-        return Stream.iterate(backtrackPosition, c -> --c).limit(backtrackPosition - currentPosition + 1)
-                .collect(LinkedList::new, Collection::add, Collection::addAll);
-    }
-
-    /**
-     * Returns all backtrack positions of the given instruction positions.
-     * The backtrack positions of both LOAD and store instructions are the next positions where the runtime stack size is {@code 0}.
-     *
-     * @param loadStorePositions The LOAD/STORE positions
-     * @return The backtrack positions
+     * @return The previous empty position
      */
-    Set<Integer> findLoadStoreBacktrackPositions(final Set<Integer> loadStorePositions) {
-        // go to this or next zero-position
-        return loadStorePositions.stream().map(this::findBacktrackPosition).collect(Collectors.toSet());
+    int findStatementStart(final int backtrackPosition) {
+        return statementStarts[backtrackPosition];
     }
 
     /**
      * Returns the next position where the stack will be empty.
+     * The backtrack positions of both LOAD and store instructions are the next positions where the runtime stack size is {@code 0}.
      *
      * @param position The current position
      * @return The next empty position
      */
-    private int findBacktrackPosition(final int position) {
-        int currentPosition = position;
-
-        // check against stack size after the instruction was executed
-        while (stackSizes.get(currentPosition).getRight() > 0) {
-            currentPosition++;
-        }
-
-        return currentPosition;
+    int findBacktrackPosition(final int position) {
+        final int statementEnd = statementEnds[position];
+        if (statementEnd < 0)
+            throw new IllegalStateException("Runtime stack is not empty after position " + position);
+        return statementEnd;
     }
 
-}
\ No newline at end of file
+}
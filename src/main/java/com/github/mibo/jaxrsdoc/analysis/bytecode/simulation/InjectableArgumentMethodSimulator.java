@@ -16,13 +16,13 @@
 
 package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
 
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
 import com.github.mibo.jaxrsdoc.model.elements.Element;
 import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
 import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.IntStream;
@@ -34,11 +34,6 @@ import java.util.stream.IntStream;
  */
 public class InjectableArgumentMethodSimulator extends MethodSimulator {
 
-    /**
-     * The called methods in a single recursive method simulation. Used to prevent infinite loops while analysing recursion.
-     */
-    private static final List<MethodIdentifier> EXECUTED_PATH_METHODS = Collections.synchronizedList(new LinkedList<>());
-
     private final Lock lock = new ReentrantLock();
 
     /**
@@ -50,19 +45,49 @@ public class InjectableArgumentMethodSimulator extends MethodSimulator {
      * @return The return value or {@code null} if return type is void
      */
     public Element simulate(final List<Element> arguments, final List<Instruction> instructions, final MethodIdentifier identifier) {
+        final AnalysisContext context = AnalysisContext.current();
+        // the called methods in a single recursive method simulation
+        final List<MethodIdentifier> executedPathMethods = context.getExecutedPathMethods();
+        final SimulationTracker tracker = SimulationTracker.current();
+
         // prevent infinite loops on analysing recursion
-        if (EXECUTED_PATH_METHODS.contains(identifier))
-            return new Element();
+        if (executedPathMethods.contains(identifier)) {
+            if (tracker == null)
+                return new Element();
+
+            tracker.countRecursionCutOff();
+            final Element assumedSummary = tracker.getAssumedSummary(identifier);
+            final Element copy = assumedSummary != null ? MethodSummaryCache.copy(assumedSummary) : null;
+            return copy != null ? copy : new Element();
+        }
+
+        final MethodSummaryCache summaries = context.getMethodSummaries();
+        final MethodSummaryCache.SummaryKey key = summaries.key(identifier, arguments);
+        if (key != null) {
+            final Optional<Element> summary = summaries.get(key);
+            if (summary != null)
+                return summary.orElse(null);
+        }
+
+        if (tracker != null)
+            tracker.checkDepth(executedPathMethods.size());
 
         lock.lock();
-        EXECUTED_PATH_METHODS.add(identifier);
+        executedPathMethods.add(identifier);
         try {
 
             injectArguments(arguments, identifier);
 
-            return simulateInternal(instructions);
+            final int recursionCutOffs = tracker != null ? tracker.getRecursionCutOffs() : 0;
+            final Element returnElement = simulateInternal(instructions);
+
+            // only cache results which neither depend on the invocation path nor changed the arguments
+            if (key != null && tracker != null && tracker.getRecursionCutOffs() == recursionCutOffs && key.equals(summaries.key(identifier, arguments)))
+                summaries.put(key, returnElement);
+
+            return returnElement;
         } finally {
-            EXECUTED_PATH_METHODS.remove(identifier);
+            executedPathMethods.remove(identifier);
             lock.unlock();
         }
     }
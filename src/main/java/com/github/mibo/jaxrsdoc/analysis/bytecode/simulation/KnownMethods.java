@@ -0,0 +1,74 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+import com.github.mibo.jaxrsdoc.model.methods.IdentifiableMethod;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * The dispatch table of the known {@code Response} and JSON methods, indexed by the owner class, the method name and the descriptor.
+ * Invocations of methods of other classes are rejected with a single lookup. The table is built once and is immutable.
+ *
+ * @author Sebastian Daschner
+ */
+final class KnownMethods {
+
+    /**
+     * Owner class -> method name -> descriptor -> method.
+     */
+    private static final Map<String, Map<String, Map<String, IdentifiableMethod>>> METHODS = buildMethods();
+
+    private KnownMethods() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the known method for the given identifier.
+     *
+     * @param identifier The method identifier
+     * @return The known method or {@code null} if the method is not known
+     */
+    static IdentifiableMethod get(final MethodIdentifier identifier) {
+        final Map<String, Map<String, IdentifiableMethod>> classMethods = METHODS.get(identifier.getContainingClass());
+        if (classMethods == null)
+            return null;
+
+        final Map<String, IdentifiableMethod> methods = classMethods.get(identifier.getMethodName());
+        if (methods == null)
+            return null;
+
+        final IdentifiableMethod method = methods.get(identifier.getSignature());
+        if (method != null && method.matches(identifier))
+            return method;
+
+        // generic signatures only match after type erasure
+        for (final IdentifiableMethod candidate : methods.values()) {
+            if (candidate.matches(identifier))
+                return candidate;
+        }
+        return null;
+    }
+
+    private static Map<String, Map<String, Map<String, IdentifiableMethod>>> buildMethods() {
+        final Map<String, Map<String, Map<String, IdentifiableMethod>>> methods = new HashMap<>();
+
+        // order matters, the first of several matching methods is taken
+        Stream.concat(Stream.of(KnownResponseResultMethod.values()), Stream.of(KnownJsonResultMethod.values())).forEach(method -> {
+            final MethodIdentifier identifier = method.getIdentifier();
+            methods.computeIfAbsent(identifier.getContainingClass(), c -> new HashMap<>())
+                    .computeIfAbsent(identifier.getMethodName(), n -> new LinkedHashMap<>())
+                    .putIfAbsent(identifier.getSignature(), method);
+        });
+
+        methods.replaceAll((c, classMethods) -> {
+            classMethods.replaceAll((n, nameMethods) -> Collections.unmodifiableMap(nameMethods));
+            return Collections.unmodifiableMap(classMethods);
+        });
+        return Collections.unmodifiableMap(methods);
+    }
+
+}
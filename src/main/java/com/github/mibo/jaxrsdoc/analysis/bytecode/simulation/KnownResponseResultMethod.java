@@ -419,6 +419,11 @@ enum KnownResponseResultMethod implements IdentifiableMethod {
         return function.apply(object, arguments);
     }
 
+    @Override
+    public MethodIdentifier getIdentifier() {
+        return identifier;
+    }
+
     @Override
     public boolean matches(final MethodIdentifier identifier) {
         return this.identifier.equals(identifier);
@@ -23,43 +23,31 @@ import com.github.mibo.jaxrsdoc.model.methods.Method;
 import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
 import com.github.mibo.jaxrsdoc.model.methods.ProjectMethod;
 
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
- * A thread-safe singleton pool of known {@link Method}s.
+ * A thread-safe pool of known {@link Method}s. Every analysis run owns its own pool, see {@link com.github.mibo.jaxrsdoc.analysis.AnalysisContext}.
+ * <p>
+ * The known {@code Response} and JSON methods are looked up in the static {@link KnownMethods} dispatch table first.
+ * The project methods are indexed by their containing class, name and number of parameters, which are not affected by the type
+ * erasure fallback of {@link MethodIdentifier#equals(Object)}. Only the methods in the matching bucket are compared precisely.
+ * Lookups don't block, even while project methods are added.
  *
  * @author Sebastian Daschner
  */
 public class MethodPool {
 
-    /**
-     * The only instance of the method pool.
-     */
-    private static final MethodPool INSTANCE = new MethodPool();
     private static final Function<MethodIdentifier, Method> DEFAULT_METHOD = identifier -> (object, arguments) -> {
         if (!Types.PRIMITIVE_VOID.equals(identifier.getReturnType()))
             return new Element(identifier.getReturnType());
         return null;
     };
 
-    private final List<IdentifiableMethod> availableMethods;
-    private final ReadWriteLock readWriteLock;
-
-    private MethodPool() {
-        availableMethods = new LinkedList<>();
-
-        // order matters, known methods are taken first
-        Stream.of(KnownResponseResultMethod.values()).forEach(availableMethods::add);
-        Stream.of(KnownJsonResultMethod.values()).forEach(availableMethods::add);
-
-        readWriteLock = new ReentrantReadWriteLock();
-    }
+    private final Map<MethodKey, List<IdentifiableMethod>> availableMethods = new ConcurrentHashMap<>();
 
     /**
      * Adds a project method to the pool.
@@ -67,12 +55,7 @@ public class MethodPool {
      * @param method The method to add
      */
     public void addProjectMethod(final ProjectMethod method) {
-        readWriteLock.writeLock().lock();
-        try {
-            availableMethods.add(method);
-        } finally {
-            readWriteLock.writeLock().unlock();
-        }
+        availableMethods.computeIfAbsent(new MethodKey(method.getIdentifier()), k -> new CopyOnWriteArrayList<>()).add(method);
     }
 
     /**
@@ -82,14 +65,18 @@ public class MethodPool {
      * @return The found method or a default handler
      */
     public Method get(final MethodIdentifier identifier) {
+        // known methods are taken first
+        final IdentifiableMethod knownMethod = KnownMethods.get(identifier);
+        if (knownMethod != null)
+            return knownMethod;
+
         // search for available methods
-        readWriteLock.readLock().lock();
-        try {
-            final Optional<? extends IdentifiableMethod> method = availableMethods.stream().filter(m -> m.matches(identifier)).findAny();
-            if (method.isPresent())
-                return method.get();
-        } finally {
-            readWriteLock.readLock().unlock();
+        final List<IdentifiableMethod> methods = availableMethods.get(new MethodKey(identifier));
+        if (methods != null) {
+            for (final IdentifiableMethod method : methods) {
+                if (method.matches(identifier))
+                    return method;
+            }
         }
 
         // apply default behaviour
@@ -97,12 +84,37 @@ public class MethodPool {
     }
 
     /**
-     * Returns the singleton instance.
-     *
-     * @return The method pool
+     * The erased key of a method: containing class, method name and number of parameters.
      */
-    public static MethodPool getInstance() {
-        return INSTANCE;
+    private static class MethodKey {
+
+        private final String containingClass;
+        private final String methodName;
+        private final int parameters;
+
+        MethodKey(final MethodIdentifier identifier) {
+            this.containingClass = identifier.getContainingClass();
+            this.methodName = identifier.getMethodName();
+            this.parameters = identifier.getParameters().size();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final MethodKey that = (MethodKey) o;
+            return parameters == that.parameters && containingClass.equals(that.containingClass) && methodName.equals(that.methodName);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = containingClass.hashCode();
+            result = 31 * result + methodName.hashCode();
+            result = 31 * result + parameters;
+            return result;
+        }
+
     }
 
 }
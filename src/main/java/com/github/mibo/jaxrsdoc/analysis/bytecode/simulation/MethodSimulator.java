@@ -16,6 +16,7 @@
 
 package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
 
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
 import com.github.mibo.jaxrsdoc.model.JavaUtils;
 import com.github.mibo.jaxrsdoc.model.Types;
 import com.github.mibo.jaxrsdoc.model.elements.Element;
@@ -41,7 +42,6 @@ import java.util.stream.IntStream;
 public class MethodSimulator {
 
     private final Lock lock = new ReentrantLock();
-    private final MethodPool methodPool = MethodPool.getInstance();
     private final Stack<Element> runtimeStack = new Stack<>();
     private final MultivaluedMap<Label, Integer> variableInvalidation = new MultivaluedHashMap<>();
     private Label active;
@@ -55,12 +55,13 @@ public class MethodSimulator {
      *
      * @param instructions The instructions of the method
      * @return The return element merged with all possible values
+     * @throws SimulationBudgetExceededException If the simulation exceeds the budget of the current analysis
      */
     public Element simulate(final List<Instruction> instructions) {
         lock.lock();
         try {
             returnElement = null;
-            return simulateInternal(instructions);
+            return SimulationTracker.track(AnalysisContext.current().getSimulationBudget(), () -> simulateInternal(instructions));
         } finally {
             lock.unlock();
         }
@@ -73,7 +74,12 @@ public class MethodSimulator {
      * @return The return element of the method
      */
     Element simulateInternal(final List<Instruction> instructions) {
-        instructions.forEach(this::simulate);
+        final SimulationTracker tracker = SimulationTracker.current();
+        for (final Instruction instruction : instructions) {
+            if (tracker != null)
+                tracker.countInstruction();
+            simulate(instruction);
+        }
 
         return returnElement;
     }
@@ -183,10 +189,10 @@ public class MethodSimulator {
             if (object instanceof MethodHandle) {
                 method = (Method) object;
             } else {
-                method = methodPool.get(identifier);
+                method = AnalysisContext.current().getMethodPool().get(identifier);
             }
         } else {
-            method = methodPool.get(identifier);
+            method = AnalysisContext.current().getMethodPool().get(identifier);
         }
         final Element returnedElement = method.invoke(object, arguments);
         if (returnedElement != null)
@@ -0,0 +1,84 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+import com.github.mibo.jaxrsdoc.LogProvider;
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
+import com.github.mibo.jaxrsdoc.model.elements.Element;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+import com.github.mibo.jaxrsdoc.model.methods.ProjectMethod;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Simulates project methods with unknown arguments in advance and stores the results as summaries in the {@link MethodSummaryCache}
+ * of the current {@link AnalysisContext}. The callees of a method should be summarized before the method itself.
+ * <p>
+ * The methods of a recursive component are simulated repeatedly, where recursive invocations evaluate to the results
+ * of the previous iteration, until the results don't change anymore. This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class MethodSummarizer {
+
+    /**
+     * The maximum number of iterations to find the summaries of a recursive component.
+     */
+    static final int MAX_FIXED_POINT_ITERATIONS = 8;
+
+    /**
+     * Summarizes the methods of a strongly connected component of the project call graph.
+     *
+     * @param component The methods of the component
+     * @param recursive {@code true} if the methods invoke each other (or themselves)
+     */
+    public void summarize(final List<ProjectMethod> component, final boolean recursive) {
+        final AnalysisContext context = AnalysisContext.current();
+        // summaries are only valid for invocations outside of other simulations
+        if (!context.getExecutedPathMethods().isEmpty())
+            return;
+
+        try {
+            if (recursive)
+                summarizeRecursive(context, component);
+            else
+                component.forEach(m -> simulate(context, m, Collections.emptyMap()));
+        } catch (Exception e) {
+            // the summaries are only an optimization, the methods are simulated at their invocations instead
+            LogProvider.debug("Could not summarize " + component.stream().map(ProjectMethod::getIdentifier).collect(Collectors.toList()) + ", " + e.getMessage());
+        }
+    }
+
+    private void summarizeRecursive(final AnalysisContext context, final List<ProjectMethod> component) {
+        Map<MethodIdentifier, Element> assumedSummaries = Collections.emptyMap();
+
+        for (int i = 0; i < MAX_FIXED_POINT_ITERATIONS; i++) {
+            final Map<MethodIdentifier, Element> summaries = new HashMap<>();
+            for (final ProjectMethod method : component)
+                summaries.put(method.getIdentifier(), simulate(context, method, assumedSummaries));
+
+            if (summaries.equals(assumedSummaries)) {
+                final MethodSummaryCache cache = context.getMethodSummaries();
+                summaries.forEach((identifier, element) -> cache.put(cache.key(identifier, unknownArguments(identifier)), element));
+                return;
+            }
+            assumedSummaries = summaries;
+        }
+
+        LogProvider.debug("No fixed point for " + component.stream().map(ProjectMethod::getIdentifier).collect(Collectors.toList())
+                + " after " + MAX_FIXED_POINT_ITERATIONS + " iterations");
+    }
+
+    private static Element simulate(final AnalysisContext context, final ProjectMethod method, final Map<MethodIdentifier, Element> assumedSummaries) {
+        final MethodIdentifier identifier = method.getIdentifier();
+        return SimulationTracker.trackSeparately(context.getSimulationBudget(), assumedSummaries,
+                () -> new InjectableArgumentMethodSimulator().simulate(unknownArguments(identifier), method.getInstructions(), identifier));
+    }
+
+    private static List<Element> unknownArguments(final MethodIdentifier identifier) {
+        return identifier.getParameters().stream().map(t -> new Element(t)).collect(Collectors.toList());
+    }
+
+}
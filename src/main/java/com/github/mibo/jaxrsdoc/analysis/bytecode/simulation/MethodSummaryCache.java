@@ -0,0 +1,203 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+import com.github.mibo.jaxrsdoc.model.elements.Element;
+import com.github.mibo.jaxrsdoc.model.elements.HttpResponse;
+import com.github.mibo.jaxrsdoc.model.elements.JsonArray;
+import com.github.mibo.jaxrsdoc.model.elements.JsonObject;
+import com.github.mibo.jaxrsdoc.model.elements.JsonValue;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the simulated return elements of project methods. A summary is keyed by the method identifier and the types and
+ * possible values of the arguments. Only invocations with immutable argument values (strings, numbers, etc.) are cached,
+ * as the simulation may change arguments which contain responses or JSON structures.
+ * <p>
+ * The cached elements are copied on every store and lookup, therefore callers may change the returned elements.
+ * Every analysis run owns its own cache, see {@link com.github.mibo.jaxrsdoc.analysis.AnalysisContext}. This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class MethodSummaryCache {
+
+    private final Map<SummaryKey, Optional<Element>> summaries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Returns the key of the invocation or {@code null} if the invocation can't be cached.
+     *
+     * @param identifier The identifier of the invoked method
+     * @param arguments  The argument values
+     * @return The key or {@code null}
+     */
+    SummaryKey key(final MethodIdentifier identifier, final List<Element> arguments) {
+        final List<Element> argumentKeys = new ArrayList<>(arguments.size());
+        for (final Element argument : arguments) {
+            if (argument == null || argument.getClass() != Element.class || !argument.getPossibleValues().stream().allMatch(MethodSummaryCache::isImmutable))
+                return null;
+            argumentKeys.add(new Element(argument.getTypes(), argument.getPossibleValues().toArray()));
+        }
+        return new SummaryKey(identifier, argumentKeys);
+    }
+
+    /**
+     * Returns a copy of the cached return element.
+     *
+     * @param key The key of the invocation
+     * @return The copy of the return element which may be empty if the method returns {@code void},
+     * or {@code null} if no summary is cached
+     */
+    Optional<Element> get(final SummaryKey key) {
+        final Optional<Element> summary = summaries.get(key);
+        if (summary == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return summary.map(MethodSummaryCache::copy);
+    }
+
+    /**
+     * Caches a copy of the return element, if the element can be copied.
+     *
+     * @param key     The key of the invocation
+     * @param element The return element or {@code null} if the method returns {@code void}
+     */
+    void put(final SummaryKey key, final Element element) {
+        if (element == null) {
+            summaries.putIfAbsent(key, Optional.empty());
+            return;
+        }
+
+        final Element copy = copy(element);
+        if (copy != null)
+            summaries.putIfAbsent(key, Optional.of(copy));
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        return summaries.size();
+    }
+
+    @Override
+    public String toString() {
+        final long lookups = hits.get() + misses.get();
+        return "Method summaries: " + summaries.size() + " cached, " + hits.get() + " hits, " + misses.get() + " misses, "
+                + (lookups == 0 ? 0 : hits.get() * 100 / lookups) + "% hit rate";
+    }
+
+    private static boolean isImmutable(final Object value) {
+        return value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Type;
+    }
+
+    /**
+     * Copies the element including all responses and JSON structures or returns {@code null} if the element contains other mutable values.
+     */
+    static Element copy(final Element element) {
+        try {
+            return copy(element, new IdentityHashMap<>());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Element copy(final Element element, final Map<Object, Object> copies) {
+        if (element.getClass() != Element.class)
+            throw new IllegalArgumentException("Element " + element + " can't be copied");
+
+        final Object existing = copies.get(element);
+        if (existing != null)
+            return (Element) existing;
+
+        final Element copy = new Element(element.getTypes());
+        copies.put(element, copy);
+        for (final Object value : element.getPossibleValues())
+            copy.getPossibleValues().add(copyValue(value, copies));
+        return copy;
+    }
+
+    private static Object copyValue(final Object value, final Map<Object, Object> copies) {
+        if (isImmutable(value))
+            return value;
+
+        final Object existing = copies.get(value);
+        if (existing != null)
+            return existing;
+
+        if (value instanceof HttpResponse) {
+            final HttpResponse response = (HttpResponse) value;
+            final HttpResponse copy = new HttpResponse();
+            copies.put(value, copy);
+            copy.getStatuses().addAll(response.getStatuses());
+            copy.getHeaders().addAll(response.getHeaders());
+            copy.getContentTypes().addAll(response.getContentTypes());
+            copy.getEntityTypes().addAll(response.getEntityTypes());
+            response.getInlineEntities().forEach(e -> copy.getInlineEntities().add((JsonValue) copyValue(e, copies)));
+            return copy;
+        }
+
+        if (value instanceof JsonObject) {
+            final JsonObject copy = new JsonObject();
+            copies.put(value, copy);
+            ((JsonObject) value).getStructure().forEach((k, v) -> copy.getStructure().put(k, copy(v, copies)));
+            return copy;
+        }
+
+        if (value instanceof JsonArray) {
+            final JsonArray copy = new JsonArray();
+            copies.put(value, copy);
+            ((JsonArray) value).getElements().forEach(e -> copy.getElements().add(copy(e, copies)));
+            return copy;
+        }
+
+        throw new IllegalArgumentException("Value " + value + " can't be copied");
+    }
+
+    /**
+     * The key of an invocation: the method identifier and the types and possible values of all arguments.
+     */
+    static class SummaryKey {
+
+        private final MethodIdentifier identifier;
+        private final List<Element> arguments;
+
+        private SummaryKey(final MethodIdentifier identifier, final List<Element> arguments) {
+            this.identifier = identifier;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final SummaryKey that = (SummaryKey) o;
+            return identifier.equals(that.identifier) && arguments.equals(that.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(identifier, arguments);
+        }
+
+    }
+
+}
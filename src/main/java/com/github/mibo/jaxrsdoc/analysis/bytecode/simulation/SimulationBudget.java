@@ -0,0 +1,55 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+/**
+ * The limits of the simulation of a single resource method, including all invoked project methods.
+ * If a limit is exceeded, the simulation is aborted with a {@link SimulationBudgetExceededException}.
+ *
+ * @author Sebastian Daschner
+ */
+public class SimulationBudget {
+
+    public static final long DEFAULT_MAX_INSTRUCTIONS = 1_000_000;
+    public static final int DEFAULT_MAX_DEPTH = 32;
+    public static final long DEFAULT_MAX_MILLIS = 10_000;
+
+    public static final SimulationBudget DEFAULT = new SimulationBudget(DEFAULT_MAX_INSTRUCTIONS, DEFAULT_MAX_DEPTH, DEFAULT_MAX_MILLIS);
+
+    private final long maxInstructions;
+    private final int maxDepth;
+    private final long maxMillis;
+
+    /**
+     * @param maxInstructions The maximum number of simulated instructions
+     * @param maxDepth        The maximum number of nested project method invocations
+     * @param maxMillis       The maximum wall-clock time of the simulation in milliseconds
+     */
+    public SimulationBudget(final long maxInstructions, final int maxDepth, final long maxMillis) {
+        if (maxInstructions < 1 || maxDepth < 1 || maxMillis < 1)
+            throw new IllegalArgumentException("The simulation budget must be positive");
+        this.maxInstructions = maxInstructions;
+        this.maxDepth = maxDepth;
+        this.maxMillis = maxMillis;
+    }
+
+    public long getMaxInstructions() {
+        return maxInstructions;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationBudget{" +
+                "maxInstructions=" + maxInstructions +
+                ", maxDepth=" + maxDepth +
+                ", maxMillis=" + maxMillis +
+                '}';
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+/**
+ * Thrown if the simulation of a resource method exceeds its {@link SimulationBudget}.
+ *
+ * @author Sebastian Daschner
+ */
+public class SimulationBudgetExceededException extends RuntimeException {
+
+    public SimulationBudgetExceededException(final String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+import com.github.mibo.jaxrsdoc.model.elements.Element;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the consumed budget of the simulation of a single resource method. The simulation of a resource method,
+ * including all invoked project methods, runs on a single thread, therefore the tracker is bound to the current thread.
+ *
+ * @author Sebastian Daschner
+ */
+class SimulationTracker {
+
+    private static final ThreadLocal<SimulationTracker> CURRENT_TRACKER = new ThreadLocal<>();
+
+    /**
+     * The wall-clock time is only checked every 1024 instructions.
+     */
+    private static final int TIME_CHECK_MASK = 0x3FF;
+
+    private final SimulationBudget budget;
+    private final long deadline;
+    private final Map<MethodIdentifier, Element> assumedSummaries;
+    private long instructions;
+    private int recursionCutOffs;
+
+    private SimulationTracker(final SimulationBudget budget, final Map<MethodIdentifier, Element> assumedSummaries) {
+        this.budget = budget;
+        this.assumedSummaries = assumedSummaries;
+        this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budget.getMaxMillis());
+    }
+
+    /**
+     * Returns the tracker which is bound to the current thread or {@code null} if no simulation is tracked.
+     */
+    static SimulationTracker current() {
+        return CURRENT_TRACKER.get();
+    }
+
+    /**
+     * Calls the simulation with a tracker for the given budget. If the current thread already tracks a simulation,
+     * the existing tracker is used.
+     *
+     * @param budget     The budget of the simulation
+     * @param simulation The simulation to call
+     * @return The result of the simulation
+     */
+    static <T> T track(final SimulationBudget budget, final Supplier<T> simulation) {
+        if (CURRENT_TRACKER.get() != null)
+            return simulation.get();
+
+        CURRENT_TRACKER.set(new SimulationTracker(budget, Collections.emptyMap()));
+        try {
+            return simulation.get();
+        } finally {
+            CURRENT_TRACKER.remove();
+        }
+    }
+
+    /**
+     * Calls the simulation with a new tracker for the given budget, regardless of an already tracked simulation.
+     * Recursive invocations of the given methods evaluate to the assumed summaries.
+     *
+     * @param budget           The budget of the simulation
+     * @param assumedSummaries The assumed return elements of recursive invocations
+     * @param simulation       The simulation to call
+     * @return The result of the simulation
+     */
+    static <T> T trackSeparately(final SimulationBudget budget, final Map<MethodIdentifier, Element> assumedSummaries, final Supplier<T> simulation) {
+        final SimulationTracker previous = CURRENT_TRACKER.get();
+        CURRENT_TRACKER.set(new SimulationTracker(budget, assumedSummaries));
+        try {
+            return simulation.get();
+        } finally {
+            if (previous == null)
+                CURRENT_TRACKER.remove();
+            else
+                CURRENT_TRACKER.set(previous);
+        }
+    }
+
+    /**
+     * Counts a simulated instruction.
+     *
+     * @throws SimulationBudgetExceededException If the instruction or time budget is exceeded
+     */
+    void countInstruction() {
+        if (++instructions > budget.getMaxInstructions())
+            throw new SimulationBudgetExceededException("more than " + budget.getMaxInstructions() + " simulated instructions");
+
+        if ((instructions & TIME_CHECK_MASK) == 0 && System.nanoTime() - deadline > 0)
+            throw new SimulationBudgetExceededException("simulation took more than " + budget.getMaxMillis() + " ms");
+    }
+
+    /**
+     * Counts a recursive project method invocation which was not simulated.
+     */
+    void countRecursionCutOff() {
+        recursionCutOffs++;
+    }
+
+    /**
+     * Returns the assumed return element of a recursive invocation of the given method or {@code null} if nothing is assumed.
+     */
+    Element getAssumedSummary(final MethodIdentifier identifier) {
+        return assumedSummaries.get(identifier);
+    }
+
+    /**
+     * Returns the number of recursive project method invocations which were not simulated so far.
+     * Results which depend on such a cut-off are specific to the invocation path.
+     */
+    int getRecursionCutOffs() {
+        return recursionCutOffs;
+    }
+
+    /**
+     * Checks if another project method may be invoked.
+     *
+     * @param depth The number of currently simulated nested project methods
+     * @throws SimulationBudgetExceededException If the depth budget is exceeded
+     */
+    void checkDepth(final int depth) {
+        if (depth >= budget.getMaxDepth())
+            throw new SimulationBudgetExceededException("more than " + budget.getMaxDepth() + " nested project methods");
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import com.github.mibo.jaxrsdoc.LogProvider;
+import com.github.mibo.jaxrsdoc.analysis.classes.index.JarIndex;
+import org.objectweb.asm.ClassReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * The class path of a single analysis run. Owns the class loader, the class bytes store and all caches which are derived
+ * from the class path. Closing the class path releases the jar-file handles and the loaded classes.
+ * <p>
+ * The class path which is used by {@link ContextClassReader} and the other class lookups is bound to the current thread
+ * via {@link #runWith(AnalysisClassPath, Runnable)}. If no class path is bound, a default class path is used.
+ * This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class AnalysisClassPath implements Closeable {
+
+    private static final long DEFAULT_CLASS_CACHE_SIZE = 64L * 1024 * 1024;
+
+    private static final AnalysisClassPath DEFAULT_CLASS_PATH = new AnalysisClassPath();
+    private static final ThreadLocal<AnalysisClassPath> CURRENT_CLASS_PATH = new ThreadLocal<>();
+
+    private final ExtensibleClassLoader classLoader = new ExtensibleClassLoader();
+    private final ClassBytesStore classBytesStore = new ClassBytesStore();
+    private final ClassCache classCache = new ClassCache(Long.getLong("jaxrs-analyzer.classCacheSize", DEFAULT_CLASS_CACHE_SIZE));
+    private final ClassResolutionCache classResolutionCache = new ClassResolutionCache(classLoader);
+    private final TypeHierarchy typeHierarchy = new TypeHierarchy(this::readUncachedClass, classResolutionCache);
+    private final StaticFieldValues staticFieldValues = new StaticFieldValues(this::readClass, Boolean.getBoolean("jaxrs-analyzer.staticFieldReflection"));
+
+    /**
+     * Returns the class path which is bound to the current thread or the default class path.
+     */
+    public static AnalysisClassPath current() {
+        final AnalysisClassPath classPath = CURRENT_CLASS_PATH.get();
+        return classPath != null ? classPath : DEFAULT_CLASS_PATH;
+    }
+
+    /**
+     * Runs the action with the given class path bound to the current thread. The previous binding is restored afterwards.
+     *
+     * @param classPath The class path to bind
+     * @param action    The action to run
+     */
+    public static void runWith(final AnalysisClassPath classPath, final Runnable action) {
+        callWith(classPath, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls the action with the given class path bound to the current thread. The previous binding is restored afterwards.
+     *
+     * @param classPath The class path to bind
+     * @param action    The action to call
+     * @return The result of the action
+     */
+    public static <T> T callWith(final AnalysisClassPath classPath, final Supplier<T> action) {
+        final AnalysisClassPath previous = CURRENT_CLASS_PATH.get();
+        CURRENT_CLASS_PATH.set(classPath);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null)
+                CURRENT_CLASS_PATH.remove();
+            else
+                CURRENT_CLASS_PATH.set(previous);
+        }
+    }
+
+    /**
+     * Adds the location to the class loader.
+     *
+     * @param url The location of a jar-file or a directory
+     */
+    public void addClassPath(final URL url) {
+        classLoader.addURL(url);
+        classResolutionCache.clearMissingClasses();
+    }
+
+    /**
+     * Adds the location to the class loader and indexes the contained class files.
+     *
+     * @param location The location of a jar-file or a directory
+     * @throws IOException If the location could not be read
+     */
+    public void addClassPath(final Path location) throws IOException {
+        addClassPath(location.toUri().toURL());
+        classBytesStore.addLocation(location);
+    }
+
+    /**
+     * Adds the jar-file location to the class loader and uses the given index instead of reading the jar-file's entries.
+     *
+     * @param location The location of a jar-file
+     * @param index    The index of the jar-file
+     * @throws IOException If the location could not be added
+     */
+    public void addClassPath(final Path location, final JarIndex index) throws IOException {
+        addClassPath(location.toUri().toURL());
+        classBytesStore.addLocation(location, index);
+        typeHierarchy.addIndex(index);
+    }
+
+    /**
+     * Reads the bytes of the given class file.
+     *
+     * @param className The class name
+     * @return The bytes of the class file
+     * @throws IOException If the class could not be found or read
+     */
+    public byte[] readClass(final String className) throws IOException {
+        final String internalName = className.replace('.', '/');
+
+        byte[] bytes = classCache.get(internalName);
+        if (bytes != null)
+            return bytes;
+
+        bytes = readClassBytes(internalName);
+        classCache.put(internalName, bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads the bytes of the given class file without using the class cache. Classes which are only scanned once, e.g. while
+     * discovering the project classes or indexing the class headers, don't evict the classes which are read repeatedly.
+     *
+     * @param className The class name
+     * @return The bytes of the class file
+     * @throws IOException If the class could not be found or read
+     */
+    public byte[] readUncachedClass(final String className) throws IOException {
+        return readClassBytes(className.replace('.', '/'));
+    }
+
+    private byte[] readClassBytes(final String internalName) throws IOException {
+        final byte[] bytes = classBytesStore.getClassBytes(internalName);
+        if (bytes != null)
+            return bytes;
+
+        try (final InputStream inputStream = classLoader.getResourceAsStream(internalName + ".class")) {
+            if (inputStream == null)
+                throw new IOException("Class not found: " + internalName.replace('/', '.'));
+            return new ClassReader(inputStream).b;
+        }
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    public ClassCache getClassCache() {
+        return classCache;
+    }
+
+    public TypeHierarchy getTypeHierarchy() {
+        return typeHierarchy;
+    }
+
+    public ClassResolutionCache getClassResolutionCache() {
+        return classResolutionCache;
+    }
+
+    public StaticFieldValues getStaticFieldValues() {
+        return staticFieldValues;
+    }
+
+    @Override
+    public void close() {
+        classCache.clear();
+        try {
+            classBytesStore.close();
+        } catch (IOException e) {
+            LogProvider.error("Could not close the class path jar-files, reason: " + e.getMessage());
+            LogProvider.debug(e);
+        }
+        try {
+            classLoader.close();
+        } catch (IOException e) {
+            LogProvider.error("Could not close the class loader, reason: " + e.getMessage());
+            LogProvider.debug(e);
+        }
+    }
+
+    private static class ExtensibleClassLoader extends URLClassLoader {
+
+        ExtensibleClassLoader() {
+            super(new URL[]{});
+        }
+
+        @Override
+        public void addURL(final URL url) {
+            super.addURL(url);
+        }
+
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import com.github.mibo.jaxrsdoc.analysis.classes.index.JarIndex;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Provides the bytes of class files from jar-files and directories. The locations are indexed by the contained packages
+ * once they are added, so the lookup of a class only has to visit the locations which actually contain the package.
+ * The jar-files are opened on first access and stay open until the store is closed. This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class ClassBytesStore implements Closeable {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private final Map<String, List<Location>> packageLocations = new ConcurrentHashMap<>();
+    private final Queue<Location> locations = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Indexes the classes of the given location. Locations which have been added earlier take precedence.
+     *
+     * @param location The location of a jar-file or a directory
+     * @throws IOException If the location could not be read
+     */
+    public void addLocation(final Path location) throws IOException {
+        final Location indexedLocation;
+        if (Files.isDirectory(location))
+            indexedLocation = indexDirectory(location);
+        else
+            indexedLocation = indexJar(location);
+
+        locations.add(indexedLocation);
+    }
+
+    /**
+     * Adds the jar-file location with an already existing index. The jar-file itself is not opened until a class is read from it.
+     *
+     * @param location The location of the jar-file
+     * @param index    The index of the jar-file
+     */
+    public void addLocation(final Path location, final JarIndex index) {
+        final JarLocation jarLocation = new JarLocation(location);
+        index.getClasses().forEach(c -> register(packageOf(c.getName()), jarLocation));
+
+        locations.add(jarLocation);
+    }
+
+    /**
+     * Returns the bytes of the given class.
+     *
+     * @param className The class name, either with dots or slashes as package separators
+     * @return The bytes of the class file or {@code null} if the class is not contained in any location
+     * @throws IOException If the class file could not be read
+     */
+    public byte[] getClassBytes(final String className) throws IOException {
+        final String internalName = className.replace('.', '/');
+
+        for (final Location location : packageLocations.getOrDefault(packageOf(internalName), Collections.emptyList())) {
+            final byte[] bytes = location.read(internalName + CLASS_FILE_SUFFIX);
+            if (bytes != null)
+                return bytes;
+        }
+
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Location location;
+        while ((location = locations.poll()) != null)
+            location.close();
+        packageLocations.clear();
+    }
+
+    private Location indexJar(final Path path) throws IOException {
+        final JarLocation location = new JarLocation(path);
+
+        final Enumeration<JarEntry> entries = location.getJarFile().entries();
+        while (entries.hasMoreElements()) {
+            final String entryName = entries.nextElement().getName();
+            if (entryName.endsWith(CLASS_FILE_SUFFIX) && !entryName.startsWith("META-INF/"))
+                register(packageOf(entryName), location);
+        }
+
+        return location;
+    }
+
+    private Location indexDirectory(final Path path) throws IOException {
+        final DirectoryLocation location = new DirectoryLocation(path);
+
+        try (final Stream<Path> directories = Files.walk(path).filter(Files::isDirectory)) {
+            directories.forEach(d -> {
+                final String packageName = path.relativize(d).toString().replace(d.getFileSystem().getSeparator(), "/");
+                register(packageName, location);
+            });
+        }
+
+        return location;
+    }
+
+    private void register(final String packageName, final Location location) {
+        final List<Location> packageLocations = this.packageLocations.computeIfAbsent(packageName, p -> new CopyOnWriteArrayList<>());
+        if (!packageLocations.contains(location))
+            packageLocations.add(location);
+    }
+
+    /**
+     * Returns the package of the given internal class or entry name, e.g. {@code a/package} for {@code a/package/AClass}.
+     */
+    private static String packageOf(final String internalName) {
+        final int lastSlash = internalName.lastIndexOf('/');
+        return lastSlash < 0 ? "" : internalName.substring(0, lastSlash);
+    }
+
+    private static byte[] readFully(final InputStream inputStream, final long size) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(size > 0 ? (int) size : 4096);
+        final byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1)
+            outputStream.write(buffer, 0, read);
+        return outputStream.toByteArray();
+    }
+
+    private interface Location extends Closeable {
+
+        /**
+         * Returns the bytes of the given entry or {@code null} if the entry does not exist in this location.
+         */
+        byte[] read(String entryName) throws IOException;
+
+    }
+
+    private static class JarLocation implements Location {
+
+        private final Path path;
+        private JarFile jarFile;
+
+        JarLocation(final Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public byte[] read(final String entryName) throws IOException {
+            final JarFile jarFile = getJarFile();
+            final JarEntry entry = jarFile.getJarEntry(entryName);
+            if (entry == null)
+                return null;
+
+            try (final InputStream inputStream = jarFile.getInputStream(entry)) {
+                return readFully(inputStream, entry.getSize());
+            }
+        }
+
+        synchronized JarFile getJarFile() throws IOException {
+            if (jarFile == null)
+                jarFile = new JarFile(path.toFile());
+            return jarFile;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (jarFile != null)
+                jarFile.close();
+        }
+
+    }
+
+    private static class DirectoryLocation implements Location {
+
+        private final Path directory;
+
+        DirectoryLocation(final Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        public byte[] read(final String entryName) throws IOException {
+            final Path file = directory.resolve(entryName);
+            if (!Files.isRegularFile(file))
+                return null;
+            return Files.readAllBytes(file);
+        }
+
+        @Override
+        public void close() {
+            // nothing to do
+        }
+
+    }
+
+}
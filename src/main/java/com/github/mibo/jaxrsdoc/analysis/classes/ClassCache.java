@@ -0,0 +1,149 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A least-recently-used cache of class file bytes, keyed by the internal class name.
+ * The cache is bounded by the total number of cached bytes. This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class ClassCache {
+
+    private final Lock lock = new ReentrantLock();
+    private final Map<String, byte[]> classes = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maximumWeight;
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maximumWeight The maximum number of bytes which are held in the cache
+     */
+    public ClassCache(final long maximumWeight) {
+        if (maximumWeight < 0)
+            throw new IllegalArgumentException("The maximum weight must not be negative, was " + maximumWeight);
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Returns the cached bytes of the given class.
+     *
+     * @param className The internal class name
+     * @return The class file bytes or {@code null} if the class is not cached
+     */
+    public byte[] get(final String className) {
+        lock.lock();
+        try {
+            final byte[] bytes = classes.get(className);
+            if (bytes == null)
+                misses++;
+            else
+                hits++;
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Caches the bytes of the given class. The least recently used classes are evicted if the maximum weight is exceeded.
+     * Classes which are larger than the maximum weight are not cached.
+     *
+     * @param className The internal class name
+     * @param bytes     The class file bytes
+     */
+    public void put(final String className, final byte[] bytes) {
+        if (bytes.length > maximumWeight)
+            return;
+
+        lock.lock();
+        try {
+            final byte[] previous = classes.put(className, bytes);
+            if (previous != null)
+                weight -= previous.length;
+            weight += bytes.length;
+
+            final Iterator<byte[]> iterator = classes.values().iterator();
+            while (weight > maximumWeight && iterator.hasNext()) {
+                weight -= iterator.next().length;
+                iterator.remove();
+                evictions++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all cached classes. The statistics are kept.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            classes.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getWeight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHits() {
+        lock.lock();
+        try {
+            return hits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMisses() {
+        lock.lock();
+        try {
+            return misses;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getEvictions() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return "ClassCache{" +
+                    "classes=" + classes.size() +
+                    ", weight=" + weight +
+                    ", maximumWeight=" + maximumWeight +
+                    ", hits=" + hits +
+                    ", misses=" + misses +
+                    ", evictions=" + evictions +
+                    '}';
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
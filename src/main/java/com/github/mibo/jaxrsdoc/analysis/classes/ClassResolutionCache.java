@@ -0,0 +1,69 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import com.github.mibo.jaxrsdoc.LogProvider;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the results of loading classes by name, including the classes which could not be found.
+ * Every missing class is only looked up and reported once. This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class ClassResolutionCache {
+
+    private final ClassLoader classLoader;
+    private final Map<String, Optional<Class<?>>> classes = new ConcurrentHashMap<>();
+
+    /**
+     * @param classLoader The class loader used to load the classes
+     */
+    public ClassResolutionCache(final ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Loads the given class.
+     *
+     * @param className The fully-qualified class name
+     * @return The loaded class or {@code null} if the class could not be found
+     */
+    public Class<?> loadClass(final String className) {
+        return classes.computeIfAbsent(className, this::resolve).orElse(null);
+    }
+
+    private Optional<Class<?>> resolve(final String className) {
+        try {
+            return Optional.of(classLoader.loadClass(className));
+        } catch (ClassNotFoundException | LinkageError e) {
+            LogProvider.debug("Could not load class " + className);
+            LogProvider.debug(e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Forgets the classes which could not be found, e.g. after the class path has been extended.
+     */
+    public void clearMissingClasses() {
+        classes.values().removeIf(c -> !c.isPresent());
+    }
+
+    /**
+     * Returns the names of all classes which could not be found, in alphabetical order.
+     */
+    public Set<String> getMissingClasses() {
+        final Set<String> missingClasses = new TreeSet<>();
+        classes.forEach((name, c) -> {
+            if (!c.isPresent())
+                missingClasses.add(name);
+        });
+        return Collections.unmodifiableSet(missingClasses);
+    }
+
+}
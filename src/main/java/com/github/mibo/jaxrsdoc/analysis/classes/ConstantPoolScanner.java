@@ -0,0 +1,125 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Scans the constant pool of raw class file bytes for UTF8 entries without parsing the rest of the class.
+ * Used to rule out classes cheaply before any ASM visiting. This class is immutable and thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class ConstantPoolScanner {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int UTF8 = 1;
+    private static final int INTEGER = 3;
+    private static final int FLOAT = 4;
+    private static final int LONG = 5;
+    private static final int DOUBLE = 6;
+    private static final int CLASS = 7;
+    private static final int STRING = 8;
+    private static final int FIELD_REF = 9;
+    private static final int METHOD_REF = 10;
+    private static final int INTERFACE_METHOD_REF = 11;
+    private static final int NAME_AND_TYPE = 12;
+    private static final int METHOD_HANDLE = 15;
+    private static final int METHOD_TYPE = 16;
+    private static final int DYNAMIC = 17;
+    private static final int INVOKE_DYNAMIC = 18;
+    private static final int MODULE = 19;
+    private static final int PACKAGE = 20;
+
+    private final byte[][] searchedEntries;
+
+    /**
+     * @param entries The UTF8 entries to search for, e.g. type descriptors
+     */
+    public ConstantPoolScanner(final String... entries) {
+        searchedEntries = Arrays.stream(entries).map(e -> e.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+    }
+
+    /**
+     * Checks if the constant pool of the class contains at least one of the searched UTF8 entries.
+     * If the bytes can't be parsed, {@code true} is returned, so the class is not ruled out.
+     *
+     * @param classBytes The bytes of the class file
+     * @return {@code true} if one of the entries is contained or the constant pool could not be parsed
+     */
+    public boolean containsAny(final byte[] classBytes) {
+        if (classBytes.length < 10 || readInt(classBytes, 0) != MAGIC)
+            return true;
+
+        final int constantPoolCount = readUnsignedShort(classBytes, 8);
+        int position = 10;
+
+        try {
+            for (int i = 1; i < constantPoolCount; i++) {
+                switch (classBytes[position]) {
+                    case UTF8:
+                        final int length = readUnsignedShort(classBytes, position + 1);
+                        if (matches(classBytes, position + 3, length))
+                            return true;
+                        position += 3 + length;
+                        break;
+                    case CLASS:
+                    case STRING:
+                    case METHOD_TYPE:
+                    case MODULE:
+                    case PACKAGE:
+                        position += 3;
+                        break;
+                    case METHOD_HANDLE:
+                        position += 4;
+                        break;
+                    case INTEGER:
+                    case FLOAT:
+                    case FIELD_REF:
+                    case METHOD_REF:
+                    case INTERFACE_METHOD_REF:
+                    case NAME_AND_TYPE:
+                    case DYNAMIC:
+                    case INVOKE_DYNAMIC:
+                        position += 5;
+                        break;
+                    case LONG:
+                    case DOUBLE:
+                        position += 9;
+                        // takes two constant pool slots
+                        i++;
+                        break;
+                    default:
+                        return true;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return true;
+        }
+
+        return false;
+    }
+
+    private boolean matches(final byte[] classBytes, final int offset, final int length) {
+        for (final byte[] entry : searchedEntries) {
+            if (entry.length != length)
+                continue;
+
+            int i = 0;
+            while (i < length && classBytes[offset + i] == entry[i])
+                i++;
+            if (i == length)
+                return true;
+        }
+        return false;
+    }
+
+    private static int readUnsignedShort(final byte[] bytes, final int offset) {
+        return ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+    }
+
+    private static int readInt(final byte[] bytes, final int offset) {
+        return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16) | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+    }
+
+}
@@ -1,43 +1,98 @@
 package com.github.mibo.jaxrsdoc.analysis.classes;
 
+import com.github.mibo.jaxrsdoc.analysis.classes.index.JarIndex;
 import org.objectweb.asm.ClassReader;
 
 import java.io.IOException;
 import java.net.URL;
-import java.net.URLClassLoader;
+import java.nio.file.Path;
 
 /**
  * A {@link ClassReader} that is able to use a separate {@link ClassLoader}.
+ * All lookups are delegated to the {@link AnalysisClassPath} of the current analysis run.
  *
  * @author Sebastian Daschner
  */
 public class ContextClassReader extends ClassReader {
 
-    private static final ExtensibleClassLoader CLASS_LOADER = new ExtensibleClassLoader();
-
     public ContextClassReader(final String className) throws IOException {
-        super(CLASS_LOADER.getResourceAsStream(className.replace('.', '/') + ".class"));
+        super(readClass(className));
+    }
+
+    public ContextClassReader(final byte[] classBytes) {
+        super(classBytes);
     }
 
     public static ClassLoader getClassLoader() {
-        return CLASS_LOADER;
+        return AnalysisClassPath.current().getClassLoader();
     }
 
     public static void addClassPath(final URL url) {
-        CLASS_LOADER.addURL(url);
+        AnalysisClassPath.current().addClassPath(url);
+    }
+
+    /**
+     * Adds the location to the class loader and indexes the contained class files.
+     *
+     * @param location The location of a jar-file or a directory
+     * @throws IOException If the location could not be read
+     */
+    public static void addClassPath(final Path location) throws IOException {
+        AnalysisClassPath.current().addClassPath(location);
+    }
+
+    /**
+     * Adds the jar-file location to the class loader and uses the given index instead of reading the jar-file's entries.
+     *
+     * @param location The location of a jar-file
+     * @param index    The index of the jar-file
+     * @throws IOException If the location could not be added
+     */
+    public static void addClassPath(final Path location, final JarIndex index) throws IOException {
+        AnalysisClassPath.current().addClassPath(location, index);
+    }
+
+    /**
+     * Reads the bytes of the given class file.
+     *
+     * @param className The class name
+     * @return The bytes of the class file
+     * @throws IOException If the class could not be found or read
+     */
+    public static byte[] readClass(final String className) throws IOException {
+        return AnalysisClassPath.current().readClass(className);
     }
 
-    private static class ExtensibleClassLoader extends URLClassLoader {
+    /**
+     * Reads the bytes of the given class file without adding them to the class cache.
+     *
+     * @param className The class name
+     * @return The bytes of the class file
+     * @throws IOException If the class could not be found or read
+     */
+    public static byte[] readUncachedClass(final String className) throws IOException {
+        return AnalysisClassPath.current().readUncachedClass(className);
+    }
 
-        ExtensibleClassLoader() {
-            super(new URL[]{});
-        }
+    /**
+     * Returns the cache of loaded and missing classes.
+     */
+    public static ClassResolutionCache getClassResolutionCache() {
+        return AnalysisClassPath.current().getClassResolutionCache();
+    }
 
-        @Override
-        public void addURL(final URL url) {
-            super.addURL(url);
-        }
+    /**
+     * Returns the type hierarchy of all classes which can be read.
+     */
+    public static TypeHierarchy getTypeHierarchy() {
+        return AnalysisClassPath.current().getTypeHierarchy();
+    }
 
+    /**
+     * Returns the cache of class file bytes which is shared by all readers.
+     */
+    public static ClassCache getClassCache() {
+        return AnalysisClassPath.current().getClassCache();
     }
 
 }
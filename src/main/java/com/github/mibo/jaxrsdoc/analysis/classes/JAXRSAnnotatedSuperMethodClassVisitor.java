@@ -3,9 +3,6 @@ package com.github.mibo.jaxrsdoc.analysis.classes;
 import com.github.mibo.jaxrsdoc.model.results.MethodResult;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
-import org.objectweb.asm.Type;
-
-import java.lang.reflect.Method;
 
 import static org.objectweb.asm.Opcodes.*;
 
@@ -15,20 +12,21 @@ import static org.objectweb.asm.Opcodes.*;
 class JAXRSAnnotatedSuperMethodClassVisitor extends ClassVisitor {
 
     private final MethodResult methodResult;
-    private final Method method;
+    private final String methodName;
+    private final String methodDesc;
 
-    JAXRSAnnotatedSuperMethodClassVisitor(final MethodResult methodResult, final Method method) {
+    JAXRSAnnotatedSuperMethodClassVisitor(final MethodResult methodResult, final String methodName, final String methodDesc) {
         super(ASM5);
         this.methodResult = methodResult;
-        this.method = method;
+        this.methodName = methodName;
+        this.methodDesc = methodDesc;
     }
 
     @Override
     public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
         final boolean legalModifiers = ((access & ACC_SYNTHETIC) | (access & ACC_STATIC) | (access & ACC_NATIVE)) == 0;
 
-        final String descriptor = Type.getMethodDescriptor(method);
-        if (legalModifiers && method.getName().equals(name) && (descriptor.equals(desc) || descriptor.equals(signature)))
+        if (legalModifiers && methodName.equals(name) && methodDesc.equals(desc))
             return new JAXRSAnnotatedSuperMethodVisitor(methodResult);
 
         return null;
@@ -5,20 +5,18 @@ import com.github.mibo.jaxrsdoc.analysis.classes.annotation.ApplicationPathAnnot
 import com.github.mibo.jaxrsdoc.analysis.classes.annotation.ConsumesAnnotationVisitor;
 import com.github.mibo.jaxrsdoc.analysis.classes.annotation.PathAnnotationVisitor;
 import com.github.mibo.jaxrsdoc.analysis.classes.annotation.ProducesAnnotationVisitor;
+import com.github.mibo.jaxrsdoc.analysis.classes.index.IndexedClass;
+import com.github.mibo.jaxrsdoc.analysis.classes.index.IndexedMethod;
 import com.github.mibo.jaxrsdoc.model.JavaUtils;
 import com.github.mibo.jaxrsdoc.model.Types;
 import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
 import com.github.mibo.jaxrsdoc.model.results.ClassResult;
 import com.github.mibo.jaxrsdoc.model.results.MethodResult;
+import com.github.mibo.jaxrsdoc.utils.Pair;
 import org.objectweb.asm.*;
 
-import javax.ws.rs.*;
 import java.io.IOException;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
 import java.util.*;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.stream.Stream;
 
 import static org.objectweb.asm.Opcodes.*;
 
@@ -27,7 +25,8 @@ import static org.objectweb.asm.Opcodes.*;
  */
 public class JAXRSClassVisitor extends ClassVisitor {
 
-    private static final Class<? extends Annotation>[] RELEVANT_METHOD_ANNOTATIONS = new Class[]{Path.class, GET.class, PUT.class, POST.class, DELETE.class, OPTIONS.class, HEAD.class};
+    private static final Set<String> RELEVANT_METHOD_ANNOTATIONS = new HashSet<>(Arrays.asList(Types.PATH, Types.GET, Types.PUT, Types.POST,
+            Types.DELETE, Types.OPTIONS, Types.HEAD));
 
     private final ClassResult classResult;
 
@@ -77,12 +76,13 @@ public class JAXRSClassVisitor extends ClassVisitor {
             if (hasJAXRSAnnotations(classResult.getOriginalClass(), name, methodSignature))
                 return new JAXRSMethodVisitor(identifier, classResult, methodResult, true);
             else {
-                final Method annotatedSuperMethod = searchAnnotatedSuperMethod(classResult.getOriginalClass(), name, methodSignature);
+                final Pair<String, IndexedMethod> annotatedSuperMethod = searchAnnotatedSuperMethod(classResult.getOriginalClass(), name, methodSignature);
                 if (annotatedSuperMethod != null) {
                     try {
                         return new JAXRSMethodVisitor(identifier, classResult, methodResult, false);
                     } finally {
-                        classResult.getMethods().stream().filter(m -> m.equals(methodResult)).findAny().ifPresent(m -> visitJAXRSSuperMethod(annotatedSuperMethod, m));
+                        classResult.getMethods().stream().filter(m -> m.equals(methodResult)).findAny()
+                                .ifPresent(m -> visitJAXRSSuperMethod(annotatedSuperMethod.getLeft(), annotatedSuperMethod.getRight(), m));
                     }
                 }
             }
@@ -91,65 +91,59 @@ public class JAXRSClassVisitor extends ClassVisitor {
     }
 
     private static boolean hasJAXRSAnnotations(final String className, final String methodName, final String signature) {
-        final Method method = JavaUtils.findMethod(className, methodName, signature);
+        final IndexedMethod method = findMethod(className, methodName, signature);
         return method != null && hasJAXRSAnnotations(method);
     }
 
-    private static Method searchAnnotatedSuperMethod(final String className, final String methodName, final String methodSignature) {
-        final List<Class<?>> superTypes = determineSuperTypes(className);
-        return superTypes.stream().map(c -> {
-            final Method superAnnotatedMethod = JavaUtils.findMethod(c, methodName, methodSignature);
-            if (superAnnotatedMethod != null && hasJAXRSAnnotations(superAnnotatedMethod))
-                return superAnnotatedMethod;
-            return null;
-        }).filter(Objects::nonNull).findAny().orElse(null);
+    /**
+     * Searches the super types of the given class for a method with the same name and parameters which is annotated with JAX-RS annotations.
+     *
+     * @return The declaring super type and the annotated method or {@code null} if no such method exists
+     */
+    private static Pair<String, IndexedMethod> searchAnnotatedSuperMethod(final String className, final String methodName, final String methodSignature) {
+        return ContextClassReader.getTypeHierarchy().getSuperTypes(className).stream()
+                .filter(c -> !Types.CLASS_OBJECT.equals(c))
+                .map(c -> {
+                    final IndexedMethod superAnnotatedMethod = findMethod(c, methodName, methodSignature);
+                    if (superAnnotatedMethod != null && hasJAXRSAnnotations(superAnnotatedMethod))
+                        return Pair.of(c, superAnnotatedMethod);
+                    return null;
+                }).filter(Objects::nonNull).findFirst().orElse(null);
     }
 
-    private static List<Class<?>> determineSuperTypes(final String className) {
-        final Class<?> loadedClass = JavaUtils.loadClassFromName(className);
-        if (loadedClass == null)
-            return Collections.emptyList();
-
-        final List<Class<?>> superClasses = new ArrayList<>();
-        final Queue<Class<?>> classesToCheck = new LinkedBlockingQueue<>();
-        Class<?> currentClass = loadedClass;
-
-        do {
-            if (currentClass.getSuperclass() != null && Object.class != currentClass.getSuperclass())
-                classesToCheck.add(currentClass.getSuperclass());
-
-            Stream.of(currentClass.getInterfaces()).forEach(classesToCheck::add);
-
-            if (currentClass != loadedClass)
-                superClasses.add(currentClass);
-
-        } while ((currentClass = classesToCheck.poll()) != null);
+    /**
+     * Finds the declared method with the given name and parameters, the return types are not taken into account
+     * (could be overloaded method w/ different return type).
+     */
+    private static IndexedMethod findMethod(final String className, final String methodName, final String signature) {
+        final IndexedClass indexedClass = ContextClassReader.getTypeHierarchy().getClass(className);
+        if (indexedClass == null)
+            return null;
 
-        return superClasses;
+        final List<String> parameters = JavaUtils.getParameters(signature);
+        return indexedClass.getMethods().stream().filter(m -> m.getName().equals(methodName)
+                && JavaUtils.getParameters(m.getSignature() != null ? m.getSignature() : m.getDesc()).equals(parameters)
+        ).findFirst().orElse(null);
     }
 
-    private static boolean hasJAXRSAnnotations(final Method method) {
-        for (final Object annotation : method.getDeclaredAnnotations()) {
-            // TODO test both
-            if (Stream.of(RELEVANT_METHOD_ANNOTATIONS).map(a -> JavaUtils.getAnnotation(method, a))
-                    .filter(Objects::nonNull).anyMatch(a -> a.getClass().isAssignableFrom(annotation.getClass())))
-                return true;
+    private static boolean hasJAXRSAnnotations(final IndexedMethod method) {
+        // TODO test both
+        return method.getAnnotations().stream().anyMatch(a -> RELEVANT_METHOD_ANNOTATIONS.contains(a) || isHttpMethodAnnotation(a));
+    }
 
-            if (JavaUtils.isAnnotationPresent(annotation.getClass(), HttpMethod.class))
-                return true;
-        }
-        return false;
+    private static boolean isHttpMethodAnnotation(final String annotationType) {
+        final IndexedClass annotationClass = ContextClassReader.getTypeHierarchy().getClass(Type.getType(annotationType).getInternalName());
+        return annotationClass != null && annotationClass.getAnnotations().contains(Types.HTTP_METHOD);
     }
 
-    private void visitJAXRSSuperMethod(Method method, MethodResult methodResult) {
+    private void visitJAXRSSuperMethod(final String className, final IndexedMethod method, final MethodResult methodResult) {
         try {
-
-            final ClassReader classReader = new ContextClassReader(method.getDeclaringClass().getCanonicalName());
-            final ClassVisitor visitor = new JAXRSAnnotatedSuperMethodClassVisitor(methodResult, method);
+            final ClassReader classReader = new ContextClassReader(className);
+            final ClassVisitor visitor = new JAXRSAnnotatedSuperMethodClassVisitor(methodResult, method.getName(), method.getDesc());
 
             classReader.accept(visitor, ClassReader.EXPAND_FRAMES);
         } catch (IOException e) {
-            LogProvider.error("Could not analyze JAX-RS super annotated method " + method);
+            LogProvider.error("Could not analyze JAX-RS super annotated method " + className + "#" + method.getName());
             LogProvider.debug(e);
         }
     }
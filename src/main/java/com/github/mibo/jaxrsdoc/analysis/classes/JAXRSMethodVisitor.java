@@ -3,7 +3,6 @@ package com.github.mibo.jaxrsdoc.analysis.classes;
 import com.github.mibo.jaxrsdoc.LogProvider;
 import com.github.mibo.jaxrsdoc.analysis.bytecode.collection.InstructionBuilder;
 import com.github.mibo.jaxrsdoc.analysis.classes.annotation.*;
-import com.github.mibo.jaxrsdoc.model.JavaUtils;
 import com.github.mibo.jaxrsdoc.model.Types;
 import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
 import com.github.mibo.jaxrsdoc.model.rest.HttpMethod;
@@ -136,9 +135,7 @@ class JAXRSMethodVisitor extends ProjectMethodVisitor {
             }
             methodResult.getMethodParameters().addAll(methodParameters.values());
 
-            final Class<?> containingClass = JavaUtils.loadClassFromName(methodResult.getOriginalMethodSignature().getContainingClass());
-
-            if (containingClass != null && containingClass.isInterface()) {
+            if (ContextClassReader.getTypeHierarchy().isInterface(methodResult.getOriginalMethodSignature().getContainingClass())) {
                 methodResult.getInstructions().add(InstructionBuilder.buildInstruction(Opcodes.ICONST_0, null));
                 methodResult.getInstructions().add(InstructionBuilder.buildInstruction(Opcodes.ARETURN, null));
             }
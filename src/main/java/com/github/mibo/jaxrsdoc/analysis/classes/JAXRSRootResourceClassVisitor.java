@@ -0,0 +1,38 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import com.github.mibo.jaxrsdoc.model.Types;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+
+import static org.objectweb.asm.Opcodes.ASM5;
+
+/**
+ * Determines whether a class is a JAX-RS root resource by inspecting its class-level annotations only.
+ * Intended to be used with {@link ClassReader#SKIP_CODE}, so the class doesn't have to be loaded or initialized.
+ *
+ * @author Sebastian Daschner
+ */
+public class JAXRSRootResourceClassVisitor extends ClassVisitor {
+
+    private boolean rootResource;
+
+    public JAXRSRootResourceClassVisitor() {
+        super(ASM5);
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(final String desc, final boolean visible) {
+        if (Types.PATH.equals(desc) || Types.APPLICATION_PATH.equals(desc))
+            rootResource = true;
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if the visited class is annotated with {@code @Path} or {@code @ApplicationPath}.
+     */
+    public boolean isRootResource() {
+        return rootResource;
+    }
+
+}
@@ -9,23 +9,39 @@ import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.objectweb.asm.Opcodes.*;
 
 /**
+ * Extracts the instructions of project methods of a class. All requested methods are extracted in a single visiting pass,
+ * methods which are not declared in the class are searched in the super classes.
+ *
  * @author Sebastian Daschner
  */
 public class ProjectMethodClassVisitor extends ClassVisitor {
 
-    private final MethodResult methodResult;
-    private final MethodIdentifier identifier;
-    private boolean methodFound;
+    private final Map<MethodIdentifier, MethodResult> methods;
+    private final Set<MethodIdentifier> foundMethods = new HashSet<>();
     private String superName;
 
     public ProjectMethodClassVisitor(final MethodResult methodResult, final MethodIdentifier identifier) {
+        this(Collections.singletonMap(identifier, methodResult));
+    }
+
+    /**
+     * @param methods The method results which are filled with the instructions of the corresponding method identifiers.
+     *                All identifiers have to be contained in the visited class or its super classes
+     */
+    public ProjectMethodClassVisitor(final Map<MethodIdentifier, MethodResult> methods) {
         super(ASM5);
-        this.methodResult = methodResult;
-        this.identifier = identifier;
+        this.methods = methods;
     }
 
     @Override
@@ -37,29 +53,55 @@ public class ProjectMethodClassVisitor extends ClassVisitor {
     public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
         // TODO allow abstract?
         final boolean legalModifiers = (access & ACC_ABSTRACT | access & ACC_NATIVE) == 0;
+        if (!legalModifiers)
+            return null;
 
-        final String methodSignature = identifier.getSignature();
-        if (legalModifiers && identifier.getMethodName().equals(name) && (methodSignature.equals(desc) || methodSignature.equals(signature))) {
-            methodFound = true;
-            return new ProjectMethodVisitor(methodResult, identifier.getContainingClass());
-        }
+        final List<MethodIdentifier> matchingIdentifiers = methods.keySet().stream()
+                .filter(identifier -> matches(identifier, name, desc, signature))
+                .collect(Collectors.toList());
 
-        return null;
+        if (matchingIdentifiers.isEmpty())
+            return null;
+
+        foundMethods.addAll(matchingIdentifiers);
+
+        final MethodIdentifier identifier = matchingIdentifiers.get(0);
+        if (matchingIdentifiers.size() == 1)
+            return new ProjectMethodVisitor(methods.get(identifier), identifier.getContainingClass());
+
+        // several identifiers resolve to the same method -> visit once and share the instructions
+        final MethodResult sharedResult = new MethodResult();
+        return new MethodVisitor(ASM5, new ProjectMethodVisitor(sharedResult, identifier.getContainingClass())) {
+            @Override
+            public void visitEnd() {
+                super.visitEnd();
+                matchingIdentifiers.forEach(i -> methods.get(i).getInstructions().addAll(sharedResult.getInstructions()));
+            }
+        };
+    }
+
+    private static boolean matches(final MethodIdentifier identifier, final String name, final String desc, final String signature) {
+        final String methodSignature = identifier.getSignature();
+        return identifier.getMethodName().equals(name) && (methodSignature.equals(desc) || methodSignature.equals(signature));
     }
 
     @Override
     public void visitEnd() {
-        // if method hasn't been found it may be on a super class (invoke_virtual)
-        if (!methodFound && !superName.equals(Types.CLASS_OBJECT)) {
-            try {
-                final ClassReader classReader = new ContextClassReader(superName);
-                final ClassVisitor visitor = new ProjectMethodClassVisitor(methodResult, identifier);
-
-                classReader.accept(visitor, ClassReader.EXPAND_FRAMES);
-            } catch (IOException e) {
-                LogProvider.error("Could not analyze project method " + superName + "#" + identifier.getMethodName());
-                LogProvider.debug(e);
-            }
+        // methods which haven't been found may be on a super class (invoke_virtual)
+        if (foundMethods.size() == methods.size() || superName == null || superName.equals(Types.CLASS_OBJECT))
+            return;
+
+        final Map<MethodIdentifier, MethodResult> unfoundMethods = new LinkedHashMap<>();
+        methods.entrySet().stream().filter(e -> !foundMethods.contains(e.getKey())).forEach(e -> unfoundMethods.put(e.getKey(), e.getValue()));
+
+        try {
+            final ClassReader classReader = new ContextClassReader(superName);
+            final ClassVisitor visitor = new ProjectMethodClassVisitor(unfoundMethods);
+
+            classReader.accept(visitor, ClassReader.EXPAND_FRAMES);
+        } catch (IOException e) {
+            unfoundMethods.keySet().forEach(identifier -> LogProvider.error("Could not analyze project method " + superName + "#" + identifier.getMethodName()));
+            LogProvider.debug(e);
         }
     }
 
@@ -22,6 +22,17 @@ class ProjectMethodVisitor extends MethodVisitor {
 
     private final Set<Label> exceptionHandlers = new HashSet<>();
     private final List<Label> visitedLabels = new ArrayList<>();
+
+    /**
+     * The positions of the visited labels in {@code visitedLabels}.
+     */
+    private final Map<Label, Integer> labelPositions = new HashMap<>();
+
+    /**
+     * The LOAD & STORE placeholders in the order of the instructions, also grouped by their local variable index.
+     */
+    private final List<Placeholder> placeholders = new ArrayList<>();
+    private final Map<Integer, SlotPlaceholders> slotPlaceholders = new HashMap<>();
     final MethodResult methodResult;
     private final String className;
 
@@ -39,6 +50,7 @@ class ProjectMethodVisitor extends MethodVisitor {
 
     @Override
     public void visitLabel(Label label) {
+        labelPositions.putIfAbsent(label, visitedLabels.size());
         visitedLabels.add(label);
         if (exceptionHandlers.remove(label))
             methodResult.getInstructions().add(new ExceptionHandlerInstruction(label));
@@ -51,36 +63,25 @@ class ProjectMethodVisitor extends MethodVisitor {
 
     @Override
     public void visitLocalVariable(String name, String desc, String signature, Label start, Label end, int index) {
-        // resolve LOAD & STORE placeholders
-        ListIterator<Instruction> iterator = methodResult.getInstructions().listIterator();
-        while (iterator.hasNext()) {
-            final Instruction instruction = iterator.next();
-            if (instruction.getType() != Instruction.InstructionType.LOAD_PLACEHOLDER && instruction.getType() != Instruction.InstructionType.STORE_PLACEHOLDER)
-                continue;
-
-            final LoadStoreInstructionPlaceholder placeholder = (LoadStoreInstructionPlaceholder) instruction;
-            if (placeholder.getNumber() != index)
-                continue;
-
-            final Label label = placeholder.getLabel();
-            if (isLabelActive(label, start, end)) {
-                final String type = signature != null ? signature : desc;
-                iterator.set(placeholder.getType() == Instruction.InstructionType.LOAD_PLACEHOLDER ? new LoadInstruction(index, type, name, label, end) : new StoreInstruction(index, type, name, label));
-            }
-        }
-    }
+        // resolve LOAD & STORE placeholders which are located from the start label up to and including the end label
+        final SlotPlaceholders slot = slotPlaceholders.get(index);
+        final Integer startPosition = labelPositions.get(start);
+        if (slot == null || startPosition == null)
+            return;
 
-    private boolean isLabelActive(final Label label, final Label start, final Label end) {
-        boolean startVisited = false;
-        for (final Label current : visitedLabels) {
-            if (current == start)
-                startVisited = true;
-            if (current == label)
-                return startVisited;
-            if (current == end)
-                return false;
+        final Integer endPosition = labelPositions.get(end);
+        final String type = signature != null ? signature : desc;
+
+        for (int i = slot.nextUnresolved(slot.firstAtOrAfter(startPosition)); i < slot.size(); i = slot.nextUnresolved(i + 1)) {
+            final Placeholder placeholder = slot.get(i);
+            if (endPosition != null && placeholder.labelPosition > endPosition)
+                break;
+
+            final Label label = placeholder.instruction.getLabel();
+            methodResult.getInstructions().set(placeholder.instructionIndex, placeholder.instruction.getType() == Instruction.InstructionType.LOAD_PLACEHOLDER
+                    ? new LoadInstruction(index, type, name, label, end) : new StoreInstruction(index, type, name, label));
+            slot.resolve(i);
         }
-        return false;
     }
 
     @Override
@@ -96,7 +97,18 @@ class ProjectMethodVisitor extends MethodVisitor {
     @Override
     public void visitVarInsn(int opcode, int index) {
         final Label label = !visitedLabels.isEmpty() ? visitedLabels.get(visitedLabels.size() - 1) : null;
-        methodResult.getInstructions().add(InstructionBuilder.buildLoadStoreInstruction(opcode, index, label));
+        final Instruction instruction = InstructionBuilder.buildLoadStoreInstruction(opcode, index, label);
+
+        if (instruction instanceof LoadStoreInstructionPlaceholder) {
+            // placeholders before the first label are never in the scope of a local variable
+            final Placeholder placeholder = new Placeholder((LoadStoreInstructionPlaceholder) instruction, methodResult.getInstructions().size(),
+                    label != null ? labelPositions.get(label) : -1);
+            placeholders.add(placeholder);
+            if (label != null)
+                slotPlaceholders.computeIfAbsent(index, i -> new SlotPlaceholders()).add(placeholder);
+        }
+
+        methodResult.getInstructions().add(instruction);
     }
 
     @Override
@@ -184,14 +196,101 @@ class ProjectMethodVisitor extends MethodVisitor {
     @Override
     public void visitEnd() {
         // resolve unresolved placeholders
-        final ListIterator<Instruction> listIterator = methodResult.getInstructions().listIterator();
-        while (listIterator.hasNext()) {
-            final Instruction instruction = listIterator.next();
+        final List<Instruction> instructions = methodResult.getInstructions();
+        for (final Placeholder placeholder : placeholders) {
+            final Instruction instruction = instructions.get(placeholder.instructionIndex);
             if (instruction.getType() == Instruction.InstructionType.LOAD_PLACEHOLDER) {
-                listIterator.set(new LoadInstruction(((LoadStoreInstructionPlaceholder) instruction).getNumber(), Types.OBJECT, instruction.getLabel(), null));
+                instructions.set(placeholder.instructionIndex, new LoadInstruction(((LoadStoreInstructionPlaceholder) instruction).getNumber(), Types.OBJECT, instruction.getLabel(), null));
             } else if (instruction.getType() == Instruction.InstructionType.STORE_PLACEHOLDER) {
-                listIterator.set(new StoreInstruction(((LoadStoreInstructionPlaceholder) instruction).getNumber(), Types.OBJECT, instruction.getLabel()));
+                instructions.set(placeholder.instructionIndex, new StoreInstruction(((LoadStoreInstructionPlaceholder) instruction).getNumber(), Types.OBJECT, instruction.getLabel()));
+            }
+        }
+    }
+
+    /**
+     * A LOAD or STORE placeholder with its position in the instructions and the position of its label.
+     */
+    private static class Placeholder {
+
+        private final LoadStoreInstructionPlaceholder instruction;
+        private final int instructionIndex;
+        private final int labelPosition;
+
+        private Placeholder(final LoadStoreInstructionPlaceholder instruction, final int instructionIndex, final int labelPosition) {
+            this.instruction = instruction;
+            this.instructionIndex = instructionIndex;
+            this.labelPosition = labelPosition;
+        }
+
+    }
+
+    /**
+     * The placeholders of a single local variable index, sorted by their label positions.
+     * Resolved placeholders are skipped with path-compressed links to the next unresolved placeholder.
+     */
+    private static class SlotPlaceholders {
+
+        private final List<Placeholder> placeholders = new ArrayList<>();
+        private int[] nextUnresolved;
+
+        void add(final Placeholder placeholder) {
+            placeholders.add(placeholder);
+        }
+
+        int size() {
+            return placeholders.size();
+        }
+
+        Placeholder get(final int position) {
+            return placeholders.get(position);
+        }
+
+        /**
+         * Returns the position of the first placeholder with a label position not before the given one.
+         */
+        int firstAtOrAfter(final int labelPosition) {
+            int low = 0;
+            int high = placeholders.size();
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (placeholders.get(middle).labelPosition < labelPosition)
+                    low = middle + 1;
+                else
+                    high = middle;
             }
+            return low;
         }
+
+        /**
+         * Returns the position of the first unresolved placeholder at or after the given position.
+         */
+        int nextUnresolved(final int position) {
+            if (nextUnresolved == null || position >= placeholders.size())
+                return position;
+
+            int current = position;
+            while (nextUnresolved[current] != current)
+                current = nextUnresolved[current];
+
+            // path compression
+            int compressed = position;
+            while (nextUnresolved[compressed] != current) {
+                final int next = nextUnresolved[compressed];
+                nextUnresolved[compressed] = current;
+                compressed = next;
+            }
+            return current;
+        }
+
+        void resolve(final int position) {
+            if (nextUnresolved == null) {
+                nextUnresolved = new int[placeholders.size() + 1];
+                for (int i = 0; i < nextUnresolved.length; i++)
+                    nextUnresolved[i] = i;
+            }
+            nextUnresolved[position] = position + 1;
+        }
+
     }
+
 }
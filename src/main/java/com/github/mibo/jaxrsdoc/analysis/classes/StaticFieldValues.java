@@ -0,0 +1,297 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import com.github.mibo.jaxrsdoc.LogProvider;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Resolves the values of static final fields from the class files, without loading or initializing the classes.
+ * The values are taken from the {@code ConstantValue} attributes and from simple assignments of constants in the static initializers.
+ * The constants of every class are read once, the values of reflectively accessed fields are memoized per field.
+ * <p>
+ * Fields of the JAX-RS and JSON-P APIs (e.g. the {@code Response.Status} constants) are always accessed reflectively as the analyzer depends on the API classes.
+ * Other classes are only initialized if the reflective access is enabled, as their static initializers may run arbitrary code.
+ * This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class StaticFieldValues {
+
+    private static final String[] API_PACKAGES = {"javax/ws/rs/", "javax/json/"};
+    private static final Set<String> BOX_TYPES = new HashSet<>(Arrays.asList("java/lang/Boolean", "java/lang/Character", "java/lang/Byte",
+            "java/lang/Short", "java/lang/Integer", "java/lang/Long", "java/lang/Float", "java/lang/Double"));
+
+    private final TypeHierarchy.ClassBytesSource classBytesSource;
+    private final boolean reflectiveAccess;
+    private final Map<String, Map<String, Object>> constants = new ConcurrentHashMap<>();
+    private final Map<String, Optional<Object>> reflectiveValues = new ConcurrentHashMap<>();
+
+    /**
+     * @param classBytesSource The source where the class file bytes are read from
+     * @param reflectiveAccess {@code true} if the values of fields which are no simple constants are accessed reflectively by initializing the classes
+     */
+    public StaticFieldValues(final TypeHierarchy.ClassBytesSource classBytesSource, final boolean reflectiveAccess) {
+        this.classBytesSource = classBytesSource;
+        this.reflectiveAccess = reflectiveAccess;
+    }
+
+    /**
+     * Returns the value of the given static field.
+     *
+     * @param className The internal name of the containing class
+     * @param fieldName The field name
+     * @return The value or {@code null} if the value could not be resolved
+     */
+    public Object getValue(final String className, final String fieldName) {
+        if (isApiClass(className))
+            return getReflectiveValue(className, fieldName);
+
+        final Object value = constants.computeIfAbsent(className, this::readConstants).get(fieldName);
+        if (value != null || !reflectiveAccess)
+            return value;
+
+        return getReflectiveValue(className, fieldName);
+    }
+
+    private static boolean isApiClass(final String className) {
+        for (final String apiPackage : API_PACKAGES) {
+            if (className.startsWith(apiPackage))
+                return true;
+        }
+        return false;
+    }
+
+    private Map<String, Object> readConstants(final String className) {
+        try {
+            final ConstantFieldVisitor visitor = new ConstantFieldVisitor(className);
+            new ClassReader(classBytesSource.getClassBytes(className)).accept(visitor, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return visitor.getConstants();
+        } catch (IOException | IllegalArgumentException e) {
+            // IllegalArgumentException is thrown for unsupported class file versions
+            LogProvider.debug("Could not read class " + className);
+            return Collections.emptyMap();
+        }
+    }
+
+    private Object getReflectiveValue(final String className, final String fieldName) {
+        return reflectiveValues.computeIfAbsent(className + '#' + fieldName, k -> {
+            try {
+                // needs to load same class instance in Maven plugin, not from extended classloader
+                final Class<?> clazz = Class.forName(className.replace('/', '.'));
+                final Field field = clazz.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                return Optional.ofNullable(field.get(null));
+            } catch (Exception | LinkageError e) {
+                LogProvider.debug("Could not access static property " + className + "#" + fieldName + ", reason: " + e.getMessage());
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Collects the constant values of the static final fields of a class.
+     */
+    private static class ConstantFieldVisitor extends ClassVisitor {
+
+        private final String className;
+        private final Map<String, String> fieldDescriptors = new HashMap<>();
+        private final Map<String, Object> constants = new HashMap<>();
+        private final Map<String, Object> initializedValues = new HashMap<>();
+        private final Set<String> reassignedFields = new HashSet<>();
+
+        private ConstantFieldVisitor(final String className) {
+            super(Opcodes.ASM5);
+            this.className = className;
+        }
+
+        @Override
+        public FieldVisitor visitField(final int access, final String name, final String desc, final String signature, final Object value) {
+            if ((access & (ACC_STATIC | ACC_FINAL)) == (ACC_STATIC | ACC_FINAL)) {
+                fieldDescriptors.put(name, desc);
+                if (value != null)
+                    constants.put(name, convert(value, desc));
+            }
+            return null;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(final int access, final String name, final String desc, final String signature, final String[] exceptions) {
+            if ("<clinit>".equals(name))
+                return new StaticInitializerVisitor();
+            return null;
+        }
+
+        private Map<String, Object> getConstants() {
+            initializedValues.forEach((name, value) -> {
+                final String desc = fieldDescriptors.get(name);
+                if (desc != null && !reassignedFields.contains(name))
+                    constants.putIfAbsent(name, convert(value, desc));
+            });
+            return constants.isEmpty() ? Collections.emptyMap() : constants;
+        }
+
+        private static Object convert(final Object value, final String desc) {
+            if (!(value instanceof Integer))
+                return value;
+
+            // boolean, char, byte and short constants are stored as int values
+            final int intValue = (Integer) value;
+            switch (desc) {
+                case "Z":
+                    return intValue != 0;
+                case "C":
+                    return (char) intValue;
+                case "B":
+                    return (byte) intValue;
+                case "S":
+                    return (short) intValue;
+                default:
+                    return value;
+            }
+        }
+
+        /**
+         * Recognizes assignments of constants to static fields, optionally boxed via the primitive {@code valueOf} methods.
+         * All other instructions discard the last pushed constant.
+         */
+        private class StaticInitializerVisitor extends MethodVisitor {
+
+            private Object pushedValue;
+
+            private StaticInitializerVisitor() {
+                super(Opcodes.ASM5);
+            }
+
+            @Override
+            public void visitInsn(final int opcode) {
+                switch (opcode) {
+                    case ICONST_M1:
+                    case ICONST_0:
+                    case ICONST_1:
+                    case ICONST_2:
+                    case ICONST_3:
+                    case ICONST_4:
+                    case ICONST_5:
+                        pushedValue = opcode - ICONST_0;
+                        break;
+                    case LCONST_0:
+                    case LCONST_1:
+                        pushedValue = (long) (opcode - LCONST_0);
+                        break;
+                    case FCONST_0:
+                    case FCONST_1:
+                    case FCONST_2:
+                        pushedValue = (float) (opcode - FCONST_0);
+                        break;
+                    case DCONST_0:
+                    case DCONST_1:
+                        pushedValue = (double) (opcode - DCONST_0);
+                        break;
+                    default:
+                        pushedValue = null;
+                }
+            }
+
+            @Override
+            public void visitIntInsn(final int opcode, final int operand) {
+                pushedValue = opcode == BIPUSH || opcode == SIPUSH ? operand : null;
+            }
+
+            @Override
+            public void visitLdcInsn(final Object cst) {
+                pushedValue = cst instanceof String || cst instanceof Number ? cst : null;
+            }
+
+            @Override
+            public void visitFieldInsn(final int opcode, final String owner, final String name, final String desc) {
+                if (opcode == PUTSTATIC && owner.equals(className)) {
+                    if (pushedValue == null || initializedValues.containsKey(name))
+                        reassignedFields.add(name);
+                    else
+                        initializedValues.put(name, pushedValue);
+                }
+                pushedValue = null;
+            }
+
+            @Override
+            public void visitMethodInsn(final int opcode, final String owner, final String name, final String desc, final boolean itf) {
+                // only the boxing of a primitive keeps the constant, not e.g. Integer.valueOf(String)
+                if (opcode != INVOKESTATIC || !"valueOf".equals(name) || !BOX_TYPES.contains(owner) || desc.charAt(1) == 'L') {
+                    pushedValue = null;
+                    return;
+                }
+
+                // the boxed type is determined by the parameter type, e.g. Boolean.valueOf(Z) for Object fields
+                if (pushedValue != null)
+                    pushedValue = convert(pushedValue, desc.substring(1, 2));
+            }
+
+            @Override
+            public void visitVarInsn(final int opcode, final int var) {
+                pushedValue = null;
+            }
+
+            @Override
+            public void visitTypeInsn(final int opcode, final String type) {
+                pushedValue = null;
+            }
+
+            @Override
+            public void visitJumpInsn(final int opcode, final Label label) {
+                pushedValue = null;
+            }
+
+            @Override
+            public void visitLabel(final Label label) {
+                // a jump target can be reached with a different value on the stack
+                pushedValue = null;
+            }
+
+            @Override
+            public void visitIincInsn(final int var, final int increment) {
+                pushedValue = null;
+            }
+
+            @Override
+            public void visitInvokeDynamicInsn(final String name, final String desc, final Handle bsm, final Object... bsmArgs) {
+                pushedValue = null;
+            }
+
+            @Override
+            public void visitTableSwitchInsn(final int min, final int max, final Label dflt, final Label... labels) {
+                pushedValue = null;
+            }
+
+            @Override
+            public void visitLookupSwitchInsn(final Label dflt, final int[] keys, final Label[] labels) {
+                pushedValue = null;
+            }
+
+            @Override
+            public void visitMultiANewArrayInsn(final String desc, final int dims) {
+                pushedValue = null;
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import com.github.mibo.jaxrsdoc.LogProvider;
+import com.github.mibo.jaxrsdoc.analysis.classes.index.ClassIndexVisitor;
+import com.github.mibo.jaxrsdoc.analysis.classes.index.IndexedClass;
+import com.github.mibo.jaxrsdoc.analysis.classes.index.JarIndex;
+import org.objectweb.asm.ClassReader;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The type hierarchy of all classes of an analysis run, built from the class file headers.
+ * The headers are read on first access or taken from jar-file indexes, the transitive super types are memoized.
+ * Classes are only loaded for assignability checks if a header in the hierarchy can't be read,
+ * e.g. JDK classes with a class file version which is not supported by ASM. This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class TypeHierarchy {
+
+    private final ClassBytesSource classBytesSource;
+    private final Supplier<ClassResolutionCache> classResolutionCache;
+    private final Map<String, Optional<IndexedClass>> classes = new ConcurrentHashMap<>();
+    private final Map<String, SuperTypes> superTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a type hierarchy which loads classes via the class resolution cache of the current analysis class path.
+     *
+     * @param classBytesSource The source where the class file bytes of classes which are not contained in an added index are read from
+     */
+    public TypeHierarchy(final ClassBytesSource classBytesSource) {
+        this.classBytesSource = classBytesSource;
+        this.classResolutionCache = ContextClassReader::getClassResolutionCache;
+    }
+
+    /**
+     * @param classBytesSource     The source where the class file bytes of classes which are not contained in an added index are read from
+     * @param classResolutionCache The cache which loads classes if the class file headers can't be read
+     */
+    public TypeHierarchy(final ClassBytesSource classBytesSource, final ClassResolutionCache classResolutionCache) {
+        this.classBytesSource = classBytesSource;
+        this.classResolutionCache = () -> classResolutionCache;
+    }
+
+    /**
+     * Adds all classes of the given index. Classes which are already known are not replaced.
+     *
+     * @param index The jar-file index
+     */
+    public void addIndex(final JarIndex index) {
+        index.getClasses().forEach(c -> classes.putIfAbsent(c.getName(), Optional.of(c)));
+    }
+
+    /**
+     * Returns the header information of the given class.
+     *
+     * @param className The internal class name
+     * @return The indexed class or {@code null} if the class could not be read
+     */
+    public IndexedClass getClass(final String className) {
+        return classes.computeIfAbsent(className, this::readClass).orElse(null);
+    }
+
+    /**
+     * Returns all transitive super classes and interfaces of the given class, in breadth-first order,
+     * i.e. direct super types first, the super class before the interfaces.
+     * Super types which could not be read are contained but not traversed further.
+     *
+     * @param className The internal class name
+     * @return The super types, not containing the class itself
+     */
+    public Set<String> getSuperTypes(final String className) {
+        return getMemoizedSuperTypes(className).types;
+    }
+
+    private SuperTypes getMemoizedSuperTypes(final String className) {
+        final SuperTypes memoized = superTypes.get(className);
+        if (memoized != null)
+            return memoized;
+
+        final SuperTypes types = determineSuperTypes(className);
+        final SuperTypes existing = superTypes.putIfAbsent(className, types);
+        return existing != null ? existing : types;
+    }
+
+    /**
+     * Checks if the left class is the same as or a sub type of the right class.
+     *
+     * @param leftClassName  The internal name of the potential sub type
+     * @param rightClassName The internal name of the potential super type
+     * @return {@code true} if the left class is assignable to the right class
+     */
+    public boolean isAssignableTo(final String leftClassName, final String rightClassName) {
+        if (leftClassName.equals(rightClassName))
+            return true;
+
+        final SuperTypes leftSuperTypes = getMemoizedSuperTypes(leftClassName);
+        if (leftSuperTypes.types.contains(rightClassName))
+            return true;
+
+        return !leftSuperTypes.complete && isAssignableByLoadedClasses(leftClassName, rightClassName);
+    }
+
+    /**
+     * Checks the assignability of the loaded classes, used if a header in the hierarchy of the left class can't be read.
+     */
+    private boolean isAssignableByLoadedClasses(final String leftClassName, final String rightClassName) {
+        final ClassResolutionCache cache = classResolutionCache.get();
+        final Class<?> leftClass = cache.loadClass(leftClassName.replace('/', '.'));
+        final Class<?> rightClass = leftClass == null ? null : cache.loadClass(rightClassName.replace('/', '.'));
+        return rightClass != null && rightClass.isAssignableFrom(leftClass);
+    }
+
+    /**
+     * Checks if the given class is an interface.
+     *
+     * @param className The internal class name
+     * @return {@code true} if the class is an interface, {@code false} if not or if the class could not be read
+     */
+    public boolean isInterface(final String className) {
+        final IndexedClass indexedClass = getClass(className);
+        return indexedClass != null && indexedClass.isInterface();
+    }
+
+    private SuperTypes determineSuperTypes(final String className) {
+        final Set<String> types = new LinkedHashSet<>();
+        boolean complete = true;
+        final Queue<String> classesToCheck = new LinkedList<>();
+        classesToCheck.add(className);
+
+        String currentClass;
+        while ((currentClass = classesToCheck.poll()) != null) {
+            final IndexedClass indexedClass = getClass(currentClass);
+            if (indexedClass == null) {
+                complete = false;
+                continue;
+            }
+
+            if (indexedClass.getSuperName() != null && types.add(indexedClass.getSuperName()))
+                classesToCheck.add(indexedClass.getSuperName());
+
+            indexedClass.getInterfaces().stream().filter(types::add).forEach(classesToCheck::add);
+        }
+
+        types.remove(className);
+        return new SuperTypes(Collections.unmodifiableSet(types), complete);
+    }
+
+    private Optional<IndexedClass> readClass(final String className) {
+        try {
+            return Optional.of(ClassIndexVisitor.index(new ClassReader(classBytesSource.getClassBytes(className))));
+        } catch (IOException | IllegalArgumentException e) {
+            // IllegalArgumentException is thrown for unsupported class file versions
+            LogProvider.debug("Could not read class " + className);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The transitive super types of a class.
+     */
+    private static class SuperTypes {
+
+        private final Set<String> types;
+
+        /**
+         * {@code false} if the header of the class or of one of its super types could not be read.
+         */
+        private final boolean complete;
+
+        private SuperTypes(final Set<String> types, final boolean complete) {
+            this.types = types;
+            this.complete = complete;
+        }
+
+    }
+
+    /**
+     * Provides the bytes of class files.
+     */
+    @FunctionalInterface
+    public interface ClassBytesSource {
+
+        /**
+         * @param className The internal class name
+         * @return The class file bytes
+         * @throws IOException If the class could not be found or read
+         */
+        byte[] getClassBytes(String className) throws IOException;
+
+    }
+
+}
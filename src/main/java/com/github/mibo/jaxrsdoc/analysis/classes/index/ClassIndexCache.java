@@ -0,0 +1,89 @@
+package com.github.mibo.jaxrsdoc.analysis.classes.index;
+
+import com.github.mibo.jaxrsdoc.LogProvider;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Caches the {@link JarIndex}es of jar-files in a directory. The index files are keyed by a hash of the absolute location,
+ * the size and the last modification time of the jar-file, so changed jar-files are indexed again.
+ * This class is thread-safe.
+ *
+ * @author Sebastian Daschner
+ */
+public class ClassIndexCache {
+
+    private static final String INDEX_FILE_SUFFIX = ".idx";
+
+    private final Path cacheDirectory;
+
+    /**
+     * @param cacheDirectory The directory where the index files are stored, will be created if it doesn't exist
+     */
+    public ClassIndexCache(final Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Returns the index of the given jar-file. The index is read from the cache directory if present or built and stored otherwise.
+     *
+     * @param jar The location of the jar-file
+     * @return The index
+     * @throws IOException If the jar-file could not be read
+     */
+    public JarIndex getIndex(final Path jar) throws IOException {
+        final Path indexFile = cacheDirectory.resolve(calculateKey(jar) + INDEX_FILE_SUFFIX);
+
+        if (Files.isRegularFile(indexFile)) {
+            try {
+                return JarIndex.read(indexFile);
+            } catch (IOException e) {
+                LogProvider.debug("Could not read cached index " + indexFile + ", indexing " + jar + " again");
+                LogProvider.debug(e);
+            }
+        }
+
+        final JarIndex index = JarIndex.build(jar);
+        store(index, indexFile);
+        return index;
+    }
+
+    private void store(final JarIndex index, final Path indexFile) {
+        try {
+            Files.createDirectories(cacheDirectory);
+
+            // written to a temporary file first, so concurrent runs never read partially written indexes
+            final Path tempFile = Files.createTempFile(cacheDirectory, "index", ".tmp");
+            try {
+                index.write(tempFile);
+                Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            LogProvider.error("Could not store the class index in " + cacheDirectory + ", reason: " + e.getMessage());
+            LogProvider.debug(e);
+        }
+    }
+
+    private static String calculateKey(final Path jar) throws IOException {
+        final String identity = jar.toAbsolutePath().normalize() + "|" + Files.size(jar) + "|" + Files.getLastModifiedTime(jar).toMillis();
+
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-1").digest(identity.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder builder = new StringBuilder();
+            for (final byte b : hash)
+                builder.append(String.format("%02x", b));
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not supported", e);
+        }
+    }
+
+}
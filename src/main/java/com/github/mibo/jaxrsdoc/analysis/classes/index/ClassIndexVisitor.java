@@ -0,0 +1,79 @@
+package com.github.mibo.jaxrsdoc.analysis.classes.index;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.objectweb.asm.Opcodes.ASM5;
+
+/**
+ * Collects the header information of a class as {@link IndexedClass}.
+ * Intended to be used with {@link ClassReader#SKIP_CODE}.
+ *
+ * @author Sebastian Daschner
+ */
+public class ClassIndexVisitor extends ClassVisitor {
+
+    private final List<String> annotations = new ArrayList<>();
+    private final List<IndexedMethod> methods = new ArrayList<>();
+    private int access;
+    private String name;
+    private String superName;
+    private String signature;
+    private List<String> interfaces;
+
+    public ClassIndexVisitor() {
+        super(ASM5);
+    }
+
+    /**
+     * Reads the header information of the given class.
+     *
+     * @param classReader The class reader
+     * @return The indexed class
+     */
+    public static IndexedClass index(final ClassReader classReader) {
+        final ClassIndexVisitor visitor = new ClassIndexVisitor();
+        classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return visitor.getIndexedClass();
+    }
+
+    @Override
+    public void visit(final int version, final int access, final String name, final String signature, final String superName, final String[] interfaces) {
+        this.access = access;
+        this.name = name;
+        this.superName = superName;
+        this.signature = signature;
+        this.interfaces = interfaces == null ? new ArrayList<>() : new ArrayList<>(Arrays.asList(interfaces));
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(final String desc, final boolean visible) {
+        annotations.add(desc);
+        return null;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name, final String desc, final String signature, final String[] exceptions) {
+        final List<String> methodAnnotations = new ArrayList<>();
+        methods.add(new IndexedMethod(access, name, desc, signature, methodAnnotations));
+
+        return new MethodVisitor(ASM5) {
+            @Override
+            public AnnotationVisitor visitAnnotation(final String desc, final boolean visible) {
+                methodAnnotations.add(desc);
+                return null;
+            }
+        };
+    }
+
+    public IndexedClass getIndexedClass() {
+        return new IndexedClass(access, name, superName, signature, interfaces, annotations, methods);
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.github.mibo.jaxrsdoc.analysis.classes.index;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.objectweb.asm.Opcodes.ACC_INTERFACE;
+
+/**
+ * The indexed header information of a class: the type hierarchy, the generic signature, the annotations and the method headers.
+ *
+ * @author Sebastian Daschner
+ */
+public class IndexedClass {
+
+    private final int access;
+    private final String name;
+    private final String superName;
+    private final String signature;
+    private final List<String> interfaces;
+    private final List<String> annotations;
+    private final List<IndexedMethod> methods;
+
+    /**
+     * @param access      The access flags
+     * @param name        The internal class name, e.g. {@code java/lang/String}
+     * @param superName   The internal name of the super class or {@code null} for {@code java/lang/Object}
+     * @param signature   The generic signature or {@code null}
+     * @param interfaces  The internal names of the directly implemented interfaces
+     * @param annotations The descriptors of the class annotations
+     * @param methods     The method headers
+     */
+    public IndexedClass(final int access, final String name, final String superName, final String signature, final List<String> interfaces,
+                        final List<String> annotations, final List<IndexedMethod> methods) {
+        this.access = access;
+        this.name = name;
+        this.superName = superName;
+        this.signature = signature;
+        this.interfaces = Collections.unmodifiableList(interfaces);
+        this.annotations = Collections.unmodifiableList(annotations);
+        this.methods = Collections.unmodifiableList(methods);
+    }
+
+    public int getAccess() {
+        return access;
+    }
+
+    public boolean isInterface() {
+        return (access & ACC_INTERFACE) != 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSuperName() {
+        return superName;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    public List<String> getInterfaces() {
+        return interfaces;
+    }
+
+    public List<String> getAnnotations() {
+        return annotations;
+    }
+
+    public List<IndexedMethod> getMethods() {
+        return methods;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        IndexedClass that = (IndexedClass) o;
+
+        if (access != that.access) return false;
+        if (!name.equals(that.name)) return false;
+        if (!Objects.equals(superName, that.superName)) return false;
+        if (!Objects.equals(signature, that.signature)) return false;
+        if (!interfaces.equals(that.interfaces)) return false;
+        if (!annotations.equals(that.annotations)) return false;
+        return methods.equals(that.methods);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = access;
+        result = 31 * result + name.hashCode();
+        result = 31 * result + Objects.hashCode(superName);
+        result = 31 * result + Objects.hashCode(signature);
+        result = 31 * result + interfaces.hashCode();
+        result = 31 * result + annotations.hashCode();
+        result = 31 * result + methods.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedClass{" +
+                "access=" + access +
+                ", name='" + name + '\'' +
+                ", superName='" + superName + '\'' +
+                ", signature='" + signature + '\'' +
+                ", interfaces=" + interfaces +
+                ", annotations=" + annotations +
+                ", methods=" + methods +
+                '}';
+    }
+
+}
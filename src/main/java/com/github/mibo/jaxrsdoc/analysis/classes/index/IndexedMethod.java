@@ -0,0 +1,90 @@
+package com.github.mibo.jaxrsdoc.analysis.classes.index;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The indexed header information of a method, without the method body.
+ *
+ * @author Sebastian Daschner
+ */
+public class IndexedMethod {
+
+    private final int access;
+    private final String name;
+    private final String desc;
+    private final String signature;
+    private final List<String> annotations;
+
+    /**
+     * @param access      The access flags
+     * @param name        The method name
+     * @param desc        The method descriptor
+     * @param signature   The generic signature or {@code null}
+     * @param annotations The descriptors of the method annotations
+     */
+    public IndexedMethod(final int access, final String name, final String desc, final String signature, final List<String> annotations) {
+        this.access = access;
+        this.name = name;
+        this.desc = desc;
+        this.signature = signature;
+        this.annotations = Collections.unmodifiableList(annotations);
+    }
+
+    public int getAccess() {
+        return access;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDesc() {
+        return desc;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    public List<String> getAnnotations() {
+        return annotations;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        IndexedMethod that = (IndexedMethod) o;
+
+        if (access != that.access) return false;
+        if (!name.equals(that.name)) return false;
+        if (!desc.equals(that.desc)) return false;
+        if (!Objects.equals(signature, that.signature)) return false;
+        return annotations.equals(that.annotations);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = access;
+        result = 31 * result + name.hashCode();
+        result = 31 * result + desc.hashCode();
+        result = 31 * result + Objects.hashCode(signature);
+        result = 31 * result + annotations.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedMethod{" +
+                "access=" + access +
+                ", name='" + name + '\'' +
+                ", desc='" + desc + '\'' +
+                ", signature='" + signature + '\'' +
+                ", annotations=" + annotations +
+                '}';
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.github.mibo.jaxrsdoc.analysis.classes.index;
+
+import com.github.mibo.jaxrsdoc.LogProvider;
+import org.objectweb.asm.ClassReader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * The index of all classes contained in a jar-file. The index can be written to and read from a binary file.
+ *
+ * @author Sebastian Daschner
+ */
+public class JarIndex {
+
+    private static final int MAGIC = 0x4A524958;
+    private static final int FORMAT_VERSION = 1;
+
+    private final List<IndexedClass> classes;
+
+    public JarIndex(final List<IndexedClass> classes) {
+        this.classes = Collections.unmodifiableList(classes);
+    }
+
+    public List<IndexedClass> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Builds the index by reading the headers of all class files in the given jar-file.
+     *
+     * @param jar The location of the jar-file
+     * @return The index
+     * @throws IOException If the jar-file could not be read
+     */
+    public static JarIndex build(final Path jar) throws IOException {
+        final List<IndexedClass> classes = new ArrayList<>();
+
+        try (final JarFile jarFile = new JarFile(jar.toFile())) {
+            final Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                // versioned entries are located in META-INF/versions/
+                if (!entry.getName().endsWith(".class") || entry.getName().startsWith("META-INF/") || isModuleInfo(entry.getName()))
+                    continue;
+
+                try (final InputStream inputStream = jarFile.getInputStream(entry)) {
+                    classes.add(ClassIndexVisitor.index(new ClassReader(inputStream)));
+                } catch (IllegalArgumentException e) {
+                    // IllegalArgumentException is thrown for unsupported class file versions
+                    LogProvider.debug("Could not index class " + entry.getName() + " in " + jar);
+                }
+            }
+        }
+
+        return new JarIndex(classes);
+    }
+
+    private static boolean isModuleInfo(final String entryName) {
+        return entryName.equals("module-info.class") || entryName.endsWith("/module-info.class");
+    }
+
+    /**
+     * Writes the index to the given file.
+     *
+     * @param file The location of the index file
+     * @throws IOException If the file could not be written
+     */
+    public void write(final Path file) throws IOException {
+        try (final OutputStream outputStream = Files.newOutputStream(file);
+             final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(classes.size());
+
+            for (final IndexedClass indexedClass : classes) {
+                output.writeInt(indexedClass.getAccess());
+                writeString(output, indexedClass.getName());
+                writeString(output, indexedClass.getSuperName());
+                writeString(output, indexedClass.getSignature());
+                writeStrings(output, indexedClass.getInterfaces());
+                writeStrings(output, indexedClass.getAnnotations());
+
+                output.writeInt(indexedClass.getMethods().size());
+                for (final IndexedMethod method : indexedClass.getMethods()) {
+                    output.writeInt(method.getAccess());
+                    writeString(output, method.getName());
+                    writeString(output, method.getDesc());
+                    writeString(output, method.getSignature());
+                    writeStrings(output, method.getAnnotations());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads an index which has been written by {@link #write(Path)}. The file is memory-mapped.
+     *
+     * @param file The location of the index file
+     * @return The index
+     * @throws IOException If the file could not be read or has an unknown format
+     */
+    public static JarIndex read(final Path file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+                throw new IOException("Unknown index format in " + file);
+
+            final int classCount = buffer.getInt();
+            final List<IndexedClass> classes = new ArrayList<>(classCount);
+
+            for (int i = 0; i < classCount; i++) {
+                final int access = buffer.getInt();
+                final String name = readString(buffer);
+                final String superName = readString(buffer);
+                final String signature = readString(buffer);
+                final List<String> interfaces = readStrings(buffer);
+                final List<String> annotations = readStrings(buffer);
+
+                final int methodCount = buffer.getInt();
+                final List<IndexedMethod> methods = new ArrayList<>(methodCount);
+                for (int j = 0; j < methodCount; j++) {
+                    methods.add(new IndexedMethod(buffer.getInt(), readString(buffer), readString(buffer), readString(buffer), readStrings(buffer)));
+                }
+
+                classes.add(new IndexedClass(access, name, superName, signature, interfaces, annotations, methods));
+            }
+
+            return new JarIndex(classes);
+        } catch (RuntimeException e) {
+            // buffer underflows or illegal lengths of truncated files
+            throw new IOException("Corrupt index file " + file, e);
+        }
+    }
+
+    private static void writeStrings(final DataOutputStream output, final List<String> strings) throws IOException {
+        output.writeInt(strings.size());
+        for (final String string : strings)
+            writeString(output, string);
+    }
+
+    private static void writeString(final DataOutputStream output, final String string) throws IOException {
+        if (string == null) {
+            output.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static List<String> readStrings(final ByteBuffer buffer) {
+        final int size = buffer.getInt();
+        final List<String> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            strings.add(readString(buffer));
+        return strings;
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0)
+            return null;
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -21,29 +21,50 @@ import java.util.*;
 import java.util.stream.Stream;
 
 /**
+ * Analyzes the JavaDoc of the project sources. The parsing of the sources does not depend on the class results and can
+ * therefore run concurrently to the bytecode analysis.
+ *
  * @author Sebastian Daschner
  */
 public class JavaDocAnalyzer {
 
-    private final Map<MethodIdentifier, MethodComment> methodComments = new HashMap<>();
-
     public void analyze(final Set<Path> projectSourcePaths, final Set<ClassResult> classResults) {
-        invokeParser(projectSourcePaths);
-        combineResults(classResults);
+        combine(classResults, parse(projectSourcePaths));
     }
 
-    private void invokeParser(Set<Path> projectSourcePaths) {
+    /**
+     * Parses the JavaDoc comments of all methods in the given source paths.
+     *
+     * @param projectSourcePaths The project source file paths
+     * @return The method comments
+     */
+    public Map<MethodIdentifier, MethodComment> parse(final Set<Path> projectSourcePaths) {
+        final Map<MethodIdentifier, MethodComment> methodComments = new HashMap<>();
         try {
             for (Path projectSourcePath : projectSourcePaths) {
-                invokeParser(projectSourcePath);
+                invokeParser(projectSourcePath, methodComments);
             }
         } catch (IOException e) {
             LogProvider.error("could not analyze JavaDoc, reason: " + e.getMessage());
             LogProvider.debug(e);
         }
+        return methodComments;
     }
 
-    private void invokeParser(Path sourcePath) throws IOException {
+    /**
+     * Adds the method comments to the corresponding method results.
+     *
+     * @param classResults   The analyzed class results
+     * @param methodComments The parsed method comments
+     */
+    public void combine(final Set<ClassResult> classResults, final Map<MethodIdentifier, MethodComment> methodComments) {
+        methodComments.forEach((key, value) -> classResults.stream()
+                .map(c -> findMethodResult(key, c))
+                .filter(Objects::nonNull)
+                .forEach(m -> m.setMethodDoc(value)));
+    }
+
+    private void invokeParser(Path sourcePath, Map<MethodIdentifier, MethodComment> methodComments) throws IOException {
         Set<Path> files = new HashSet<>();
 
         Files.walkFileTree(sourcePath, new SimpleFileVisitor<Path>() {
@@ -67,15 +88,8 @@ public class JavaDocAnalyzer {
         }
     }
 
-    private void combineResults(final Set<ClassResult> classResults) {
-        methodComments.forEach((key, value) -> classResults.stream()
-                .map(c -> findMethodResult(key, c))
-                .filter(Objects::nonNull)
-                .forEach(m -> m.setMethodDoc(value)));
-    }
-
     private MethodResult findMethodResult(final MethodIdentifier identifier, final ClassResult classResult) {
-        if (classResult.getOriginalClass().equals(identifier.getContainingClass()))
+        if (identifier.getContainingClass().equals(classResult.getOriginalClass()))
             return classResult.getMethods().stream()
                     .filter(methodResult -> equalsSimpleTypeNames(identifier, methodResult))
                     .findAny().orElse(null);
@@ -43,7 +43,7 @@ import java.util.stream.Stream;
 class JavaTypeAnalyzer {
 
     private final static String[] NAMES_TO_IGNORE = {"getClass"};
-    private static Set<String> ignoredFieldNames = new HashSet<>();
+    private final Set<String> ignoredFieldNames = new HashSet<>();
 
     /**
      * The type representation storage where all analyzed types have to be added. This will be created by the caller.
@@ -131,7 +131,7 @@ class JavaTypeAnalyzer {
         return XmlAccessType.PUBLIC_MEMBER;
     }
 
-    private static boolean isRelevant(final Field field, final XmlAccessType accessType) {
+    private boolean isRelevant(final Field field, final XmlAccessType accessType) {
         if (field.isSynthetic())
             return false;
 
@@ -170,7 +170,7 @@ class JavaTypeAnalyzer {
      * @param method The method
      * @return {@code true} if the method should be analyzed further
      */
-    private static boolean isRelevant(final Method method, final XmlAccessType accessType) {
+    private boolean isRelevant(final Method method, final XmlAccessType accessType) {
         if (method.isSynthetic() || !isGetter(method))
             return false;
 
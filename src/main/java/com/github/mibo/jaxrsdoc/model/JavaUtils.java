@@ -206,13 +206,33 @@ public final class JavaUtils {
             return false;
         }
 
-        final Class<?> leftClass = loadClassFromType(leftType);
-        final Class<?> rightClass = loadClassFromType(rightType);
-        if (leftClass == null || rightClass == null)
-            return false;
+        final String leftClassName = toClassName(leftType);
+        final String rightClassName = toClassName(rightType);
+
+        // primitive types don't have a type hierarchy and are only assignable to themselves
+        if (isPrimitiveClass(leftClassName) || isPrimitiveClass(rightClassName))
+            return leftClassName.equals(rightClassName);
 
         final boolean bothTypesParameterized = hasTypeParameters(leftType) && hasTypeParameters(rightType);
-        return rightClass.isAssignableFrom(leftClass) && (firstTypeArray || !bothTypesParameterized || getTypeParameters(leftType).equals(getTypeParameters(rightType)));
+        return ContextClassReader.getTypeHierarchy().isAssignableTo(leftClassName, rightClassName)
+                && (firstTypeArray || !bothTypesParameterized || getTypeParameters(leftType).equals(getTypeParameters(rightType)));
+    }
+
+    private static boolean isPrimitiveClass(final String className) {
+        switch (className) {
+            case Types.CLASS_PRIMITIVE_VOID:
+            case Types.CLASS_PRIMITIVE_BOOLEAN:
+            case Types.CLASS_PRIMITIVE_CHAR:
+            case Types.CLASS_PRIMITIVE_BYTE:
+            case Types.CLASS_PRIMITIVE_SHORT:
+            case Types.CLASS_PRIMITIVE_INT:
+            case Types.CLASS_PRIMITIVE_FLOAT:
+            case Types.CLASS_PRIMITIVE_LONG:
+            case Types.CLASS_PRIMITIVE_DOUBLE:
+                return true;
+            default:
+                return false;
+        }
     }
 
     private static boolean hasTypeParameters(final String type) {
@@ -371,13 +391,7 @@ public final class JavaUtils {
 
         // TODO test for variable types
 
-        try {
-            return ContextClassReader.getClassLoader().loadClass(className.replace('/', '.'));
-        } catch (ClassNotFoundException e) {
-            LogProvider.error("Could not load class " + className);
-            LogProvider.debug(e);
-            return null;
-        }
+        return ContextClassReader.getClassResolutionCache().loadClass(className.replace('/', '.'));
     }
 
     public static Class<?> loadClassFromType(final String type) {
@@ -17,7 +17,7 @@
 package com.github.mibo.jaxrsdoc.model.elements;
 
 import com.github.mibo.jaxrsdoc.model.methods.Method;
-import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.MethodPool;
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
 import com.github.mibo.jaxrsdoc.model.JavaUtils;
 import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
 
@@ -70,7 +70,7 @@ public class MethodHandle extends Element implements Method {
         final List<Element> combinedArguments = Stream.concat(transferredArguments.stream(), arguments.stream()).collect(Collectors.toList());
         return possibleIdentifiers.stream()
                 .map(i -> {
-                    final Method method = MethodPool.getInstance().get(i);
+                    final Method method = AnalysisContext.current().getMethodPool().get(i);
                     if (!i.isStaticMethod()) {
                         final List<Element> actualArguments = new ArrayList<>(combinedArguments);
                         final Element object = actualArguments.isEmpty() ? new Element() : actualArguments.remove(0);
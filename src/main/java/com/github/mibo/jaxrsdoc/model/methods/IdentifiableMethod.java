@@ -23,6 +23,11 @@ package com.github.mibo.jaxrsdoc.model.methods;
  */
 public interface IdentifiableMethod extends Method {
 
+    /**
+     * Returns the identifier of this method.
+     */
+    MethodIdentifier getIdentifier();
+
     /**
      * Checks if the given signature matches this method.
      *
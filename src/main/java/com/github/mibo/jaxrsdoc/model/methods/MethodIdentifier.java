@@ -44,6 +44,11 @@ public class MethodIdentifier {
     private final boolean staticMethod;
     private final List<String> parameters;
 
+    /**
+     * The method signature, built on first use.
+     */
+    private String signature;
+
     private MethodIdentifier(final String containingClass, final String methodName, final List<String> parameters, final String returnType, final boolean staticMethod) {
         Objects.requireNonNull(containingClass);
         Objects.requireNonNull(methodName);
@@ -60,9 +65,12 @@ public class MethodIdentifier {
      * Returns the method signature, e.g. {@code (Ljava/lang/String;)V}.
      */
     public String getSignature() {
-        final StringBuilder builder = new StringBuilder("(");
-        parameters.forEach(builder::append);
-        return builder.append(')').append(returnType).toString();
+        if (signature == null) {
+            final StringBuilder builder = new StringBuilder("(");
+            parameters.forEach(builder::append);
+            signature = builder.append(')').append(returnType).toString();
+        }
+        return signature;
     }
 
     public String getContainingClass() {
@@ -20,6 +20,8 @@ import com.github.mibo.jaxrsdoc.model.elements.Element;
 import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
 import com.github.mibo.jaxrsdoc.analysis.bytecode.simulation.InjectableArgumentMethodSimulator;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -32,9 +34,25 @@ public class ProjectMethod implements IdentifiableMethod {
     private final MethodIdentifier identifier;
     private final List<Instruction> instructions;
 
+    /**
+     * Creates a project method which stores an unmodifiable, array-backed copy of the instructions, trimmed to their size.
+     * Project methods are kept for the whole analysis, so the spare capacity of the collected list is not retained.
+     *
+     * @param identifier   The method identifier
+     * @param instructions The instructions of the method
+     */
     public ProjectMethod(final MethodIdentifier identifier, final List<Instruction> instructions) {
         this.identifier = identifier;
-        this.instructions = instructions;
+        this.instructions = Collections.unmodifiableList(Arrays.asList(instructions.toArray(new Instruction[instructions.size()])));
+    }
+
+    @Override
+    public MethodIdentifier getIdentifier() {
+        return identifier;
+    }
+
+    public List<Instruction> getInstructions() {
+        return instructions;
     }
 
     @Override
@@ -1,9 +1,9 @@
 package com.github.mibo.jaxrsdoc.model.rest;
 
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
 import com.github.mibo.jaxrsdoc.model.Types;
 
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Identifies a type representation.
@@ -14,7 +14,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 public abstract class TypeIdentifier {
 
     public static final String DYNAMIC_TYPE_PREFIX = "$";
-    private static final AtomicInteger dynamicCounter = new AtomicInteger();
 
     @Override
     public abstract boolean equals(final Object object);
@@ -28,7 +27,7 @@ public abstract class TypeIdentifier {
     }
 
     public static TypeIdentifier ofDynamic() {
-        return new DynamicTypeIdentifier(dynamicCounter.incrementAndGet());
+        return new DynamicTypeIdentifier(AnalysisContext.current().nextDynamicTypeNumber());
     }
 
     private static class JavaTypeIdentifier extends TypeIdentifier {
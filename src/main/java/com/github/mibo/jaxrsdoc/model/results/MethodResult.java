@@ -39,7 +39,7 @@ public class MethodResult {
     private final Set<String> responseMediaTypes = new HashSet<>();
     private final Set<MethodParameter> methodParameters = new HashSet<>();
     private final Set<HttpResponse> responses = new HashSet<>();
-    private final List<Instruction> instructions = new ArrayList<>();
+    private List<Instruction> instructions = new ArrayList<>();
     private String path;
     private String requestBodyType;
     private MethodIdentifier originalMethodSignature;
@@ -69,6 +69,13 @@ public class MethodResult {
         return instructions;
     }
 
+    /**
+     * Releases the collected instructions, which are not needed anymore after the bytecode of the method has been analyzed.
+     */
+    public void releaseInstructions() {
+        instructions = new ArrayList<>();
+    }
+
     public String getPath() {
         return path;
     }
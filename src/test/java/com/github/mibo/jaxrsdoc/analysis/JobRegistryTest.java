@@ -0,0 +1,117 @@
+package com.github.mibo.jaxrsdoc.analysis;
+
+import com.github.mibo.jaxrsdoc.model.rest.HttpMethod;
+import com.github.mibo.jaxrsdoc.model.results.ClassResult;
+import com.github.mibo.jaxrsdoc.model.results.MethodResult;
+import com.github.mibo.jaxrsdoc.utils.Pair;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class JobRegistryTest {
+
+    private final JobRegistry classUnderTest = new JobRegistry();
+
+    @Test
+    public void testClassIsAnalyzedOnce() {
+        final ClassResult first = new ClassResult();
+        final ClassResult second = new ClassResult();
+        classUnderTest.analyzeResourceClass("a.A", first);
+        classUnderTest.analyzeResourceClass("a/A", second);
+
+        final Pair<String, ClassResult> unhandledClass = classUnderTest.nextUnhandledClass();
+        assertThat(unhandledClass.getLeft(), is("a.A"));
+        assertThat(unhandledClass.getRight(), is(sameInstance(first)));
+        assertThat(classUnderTest.nextUnhandledClass(), is(nullValue()));
+    }
+
+    @Test
+    public void testLinkAnalyzedClasses() {
+        final ClassResult first = subResource(root("a/Root"));
+        final ClassResult second = subResource(root("a/AnotherRoot"));
+        classUnderTest.analyzeResourceClass("a/Sub", first);
+        classUnderTest.analyzeResourceClass("a/Sub", second);
+
+        first.setOriginalClass("a/Sub");
+        first.add(method("get", HttpMethod.GET));
+
+        classUnderTest.linkAnalyzedClasses();
+
+        assertThat(second.getOriginalClass(), is("a/Sub"));
+        assertThat(second.getMethods(), is(first.getMethods()));
+        final MethodResult copiedMethod = second.getMethods().iterator().next();
+        assertThat(copiedMethod, is(not(sameInstance(first.getMethods().iterator().next()))));
+        assertThat(copiedMethod.getParentResource(), is(sameInstance(second)));
+    }
+
+    @Test
+    public void testRecursiveSubResourceIsIgnored() {
+        final ClassResult root = root("a/Root");
+        classUnderTest.analyzeResourceClass("a/Root", root);
+        classUnderTest.nextUnhandledClass();
+
+        final ClassResult sub = subResource(root);
+        classUnderTest.analyzeResourceClass("a.Root", sub);
+
+        assertThat(classUnderTest.nextUnhandledClass(), is(nullValue()));
+        classUnderTest.linkAnalyzedClasses();
+        assertThat(sub.getMethods().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testLinkRecursiveSubResources() {
+        // a/Root -> a/Sub -> a/AnotherRoot (linked), a/AnotherRoot -> a/Sub (linked)
+        final ClassResult root = root("a/Root");
+        final ClassResult anotherRoot = root("a/AnotherRoot");
+        classUnderTest.analyzeResourceClass("a/Root", root);
+        classUnderTest.analyzeResourceClass("a/AnotherRoot", anotherRoot);
+
+        final ClassResult sub = subResource(root);
+        classUnderTest.analyzeResourceClass("a/Sub", sub);
+        sub.setOriginalClass("a/Sub");
+        final ClassResult linkedSub = subResource(anotherRoot);
+        classUnderTest.analyzeResourceClass("a/Sub", linkedSub);
+        final ClassResult linkedAnotherRoot = subResource(sub);
+        classUnderTest.analyzeResourceClass("a/AnotherRoot", linkedAnotherRoot);
+
+        classUnderTest.linkAnalyzedClasses();
+
+        // a/AnotherRoot -> a/Sub -> a/AnotherRoot is not expanded again
+        assertThat(linkedSub.getOriginalClass(), is("a/Sub"));
+        final ClassResult copiedAnotherRoot = linkedSub.getMethods().iterator().next().getSubResource();
+        assertThat(copiedAnotherRoot.getOriginalClass(), is(nullValue()));
+        assertThat(copiedAnotherRoot.getMethods().isEmpty(), is(true));
+
+        // a/Root -> a/Sub -> a/AnotherRoot -> a/Sub is not expanded again
+        assertThat(linkedAnotherRoot.getOriginalClass(), is("a/AnotherRoot"));
+        final ClassResult copiedSub = linkedAnotherRoot.getMethods().iterator().next().getSubResource();
+        assertThat(copiedSub.getOriginalClass(), is(nullValue()));
+        assertThat(copiedSub.getMethods().isEmpty(), is(true));
+    }
+
+    private static ClassResult root(final String className) {
+        final ClassResult classResult = new ClassResult();
+        classResult.setOriginalClass(className);
+        return classResult;
+    }
+
+    private static ClassResult subResource(final ClassResult parent) {
+        final MethodResult locator = method("locator", null);
+        final ClassResult subResource = new ClassResult();
+        locator.setSubResource(subResource);
+        parent.add(locator);
+        return subResource;
+    }
+
+    private static MethodResult method(final String path, final HttpMethod httpMethod) {
+        final MethodResult methodResult = new MethodResult();
+        methodResult.setPath(path);
+        methodResult.setHttpMethod(httpMethod);
+        return methodResult;
+    }
+
+}
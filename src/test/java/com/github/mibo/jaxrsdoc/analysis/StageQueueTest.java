@@ -0,0 +1,62 @@
+package com.github.mibo.jaxrsdoc.analysis;
+
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class StageQueueTest {
+
+    @Test
+    public void testTakeUntilClosed() {
+        final StageQueue<String> classUnderTest = new StageQueue<>("test", 4);
+        classUnderTest.put("a");
+        classUnderTest.put("b");
+        classUnderTest.close();
+
+        assertThat(classUnderTest.take(), is("a"));
+        assertThat(classUnderTest.take(), is("b"));
+        assertThat(classUnderTest.take(), is(nullValue()));
+        assertThat(classUnderTest.getPassedElements(), is(2L));
+        assertThat(classUnderTest.getMaxDepth(), is(2));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPutAfterClose() {
+        final StageQueue<String> classUnderTest = new StageQueue<>("test", 4);
+        classUnderTest.close();
+        classUnderTest.put("a");
+    }
+
+    @Test
+    public void testBackPressure() {
+        final StageQueue<Integer> classUnderTest = new StageQueue<>("test", 2);
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final ForkJoinTask<?> producer = pool.submit(() -> {
+                IntStream.range(0, 100).forEach(classUnderTest::put);
+                classUnderTest.close();
+            });
+
+            final List<Integer> taken = new LinkedList<>();
+            Integer element;
+            while ((element = classUnderTest.take()) != null)
+                taken.add(element);
+            producer.join();
+
+            assertThat(taken, is(IntStream.range(0, 100).boxed().collect(Collectors.toList())));
+            assertThat(classUnderTest.getMaxDepth() <= 2, is(true));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
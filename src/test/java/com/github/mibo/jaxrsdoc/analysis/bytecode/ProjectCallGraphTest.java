@@ -0,0 +1,43 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode;
+
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
+import com.github.mibo.jaxrsdoc.model.Types;
+import com.github.mibo.jaxrsdoc.model.instructions.InvokeInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.ReturnInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.SizeChangingInstruction;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+import com.github.mibo.jaxrsdoc.model.methods.ProjectMethod;
+import org.junit.Test;
+
+import javax.ws.rs.GET;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ProjectCallGraphTest {
+
+    private static final MethodIdentifier INTERFACE_METHOD = MethodIdentifier.ofNonStatic(InterfaceResource.class.getName().replace('.', '/'),
+            "get", Types.STRING);
+
+    @Test
+    public void testInterfaceMethod() {
+        final AnalysisContext context = new AnalysisContext();
+
+        AnalysisContext.runWith(context, () -> context.getCallGraph().resolve(Arrays.asList(new SizeChangingInstruction("resource", 1, 0, null),
+                new InvokeInstruction(INTERFACE_METHOD, null), new ReturnInstruction(null)), i -> i.equals(INTERFACE_METHOD)));
+
+        assertThat(context.getCallGraph().size(), is(1));
+        final ProjectMethod projectMethod = (ProjectMethod) context.getMethodPool().get(INTERFACE_METHOD);
+        // interface methods don't contain any instructions
+        assertThat(projectMethod.getInstructions().isEmpty(), is(true));
+    }
+
+    public interface InterfaceResource {
+
+        @GET
+        String get();
+
+    }
+
+}
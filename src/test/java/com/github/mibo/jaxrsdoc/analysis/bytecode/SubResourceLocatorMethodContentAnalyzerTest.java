@@ -1,55 +1,48 @@
 package com.github.mibo.jaxrsdoc.analysis.bytecode;
 
-import com.github.mibo.jaxrsdoc.analysis.JobRegistry;
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
 import com.github.mibo.jaxrsdoc.model.JavaUtils;
 import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
 import com.github.mibo.jaxrsdoc.model.results.ClassResult;
 import com.github.mibo.jaxrsdoc.model.results.MethodResult;
 import com.github.mibo.jaxrsdoc.analysis.classes.ContextClassReader;
 import com.github.mibo.jaxrsdoc.analysis.classes.ProjectMethodClassVisitor;
-import org.junit.AfterClass;
+import com.github.mibo.jaxrsdoc.utils.Pair;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
-import org.mockito.ArgumentCaptor;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Type;
 
 import javax.ws.rs.NotFoundException;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.github.mibo.jaxrsdoc.analysis.utils.TestClassUtils.getClasses;
 import static org.junit.Assert.assertEquals;
-import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.*;
 
 @RunWith(Parameterized.class)
 public class SubResourceLocatorMethodContentAnalyzerTest {
 
-    private static JobRegistry originalJobRegistry;
     private final SubResourceLocatorMethodContentAnalyzer classUnderTest;
     private final String testClassSimpleName;
     private final String testClassName;
     private final Set<String> expectedClassNames;
-    private final JobRegistry jobRegistry;
+    private final AnalysisContext context;
     private String signature;
 
 
-    public SubResourceLocatorMethodContentAnalyzerTest(final String testClassSimpleName, final String testClassName, final String signature, final Set<String> expectedClassNames)
-            throws ReflectiveOperationException {
+    public SubResourceLocatorMethodContentAnalyzerTest(final String testClassSimpleName, final String testClassName, final String signature, final Set<String> expectedClassNames) {
         this.testClassSimpleName = testClassSimpleName;
         this.testClassName = testClassName;
         this.signature = signature;
         this.expectedClassNames = expectedClassNames;
-        jobRegistry = mock(JobRegistry.class);
+        this.context = new AnalysisContext();
         this.classUnderTest = new SubResourceLocatorMethodContentAnalyzer();
-        injectJobRegistry(jobRegistry);
     }
 
     @Parameterized.Parameters(name = "{0}")
@@ -82,35 +75,23 @@ public class SubResourceLocatorMethodContentAnalyzerTest {
             final ClassResult parentResource = new ClassResult();
             parentResource.setOriginalClass(testClassName);
             methodResult.setParentResource(parentResource);
+            methodResult.setSubResource(new ClassResult());
             final ProjectMethodClassVisitor visitor = new ProjectMethodClassVisitor(methodResult, MethodIdentifier.of(testClassName, "method", signature, false));
             classReader.accept(visitor, ClassReader.EXPAND_FRAMES);
 
-            classUnderTest.analyze(methodResult);
+            AnalysisContext.runWith(context, () -> classUnderTest.analyze(methodResult));
         } catch (Exception e) {
             System.err.println("failed for " + testClassName);
             throw e;
         }
 
-        final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(jobRegistry, atLeastOnce()).analyzeResourceClass(captor.capture(), any());
+        final List<String> registeredClassNames = new LinkedList<>();
+        Pair<String, ClassResult> registeredClass;
+        while ((registeredClass = context.getJobRegistry().nextUnhandledClass()) != null)
+            registeredClassNames.add(registeredClass.getLeft());
 
-        assertEquals("failed for " + testClassName, expectedClassNames, captor.getAllValues().stream().collect(Collectors.toSet()));
-        verify(jobRegistry, times(expectedClassNames.size())).analyzeResourceClass(any(), any());
-    }
-
-    @AfterClass
-    public static void tearDown() throws NoSuchFieldException, IllegalAccessException {
-        injectJobRegistry(originalJobRegistry);
-    }
-
-    private static void injectJobRegistry(final JobRegistry jobRegistry) throws NoSuchFieldException, IllegalAccessException {
-        final Field field = JobRegistry.class.getDeclaredField("INSTANCE");
-        field.setAccessible(true);
-        originalJobRegistry = JobRegistry.getInstance();
-        Field modifiersField = Field.class.getDeclaredField("modifiers");
-        modifiersField.setAccessible(true);
-        modifiersField.setInt(field, field.getModifiers() & ~Modifier.FINAL);
-        field.set(null, jobRegistry);
+        assertEquals("failed for " + testClassName, expectedClassNames, registeredClassNames.stream().collect(Collectors.toSet()));
+        assertEquals("failed for " + testClassName, expectedClassNames.size(), registeredClassNames.size());
     }
 
 }
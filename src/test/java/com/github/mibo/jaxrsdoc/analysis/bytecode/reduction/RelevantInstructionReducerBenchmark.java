@@ -0,0 +1,82 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.reduction;
+
+import com.github.mibo.jaxrsdoc.model.Types;
+import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
+import com.github.mibo.jaxrsdoc.model.instructions.LoadInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.PushInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.ReturnInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.SizeChangingInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.StoreInstruction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the reduction of a method with 5,000 instructions, which consist of statements that combine and store local variables.
+ * <p>
+ * Run with {@code java -cp <test class path> org.openjdk.jmh.Main RelevantInstructionReducerBenchmark}.
+ *
+ * @author Sebastian Daschner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelevantInstructionReducerBenchmark {
+
+    private static final int METHOD_SIZE = 5_000;
+    private static final int LOCAL_VARIABLES = 200;
+
+    private final RelevantInstructionReducer reducer = new RelevantInstructionReducer();
+    private final List<Instruction> instructions = buildInstructions(new Random(42));
+
+    @Benchmark
+    public List<Instruction> reduceInstructions() {
+        return reducer.reduceInstructions(instructions);
+    }
+
+    static List<Instruction> buildInstructions(final Random random) {
+        final List<Instruction> instructions = new ArrayList<>(METHOD_SIZE);
+
+        for (int i = 1; i <= LOCAL_VARIABLES; i++) {
+            instructions.add(new PushInstruction(i, Types.PRIMITIVE_INT, null));
+            instructions.add(new StoreInstruction(i, Types.PRIMITIVE_INT, "variable" + i, null));
+        }
+
+        while (instructions.size() < METHOD_SIZE - 2) {
+            final int variable = 1 + random.nextInt(LOCAL_VARIABLES);
+            if (random.nextInt(4) == 0) {
+                // statement without a stored result, e.g. a logging call
+                instructions.add(load(variable));
+                instructions.add(new SizeChangingInstruction("log", 0, 1, null));
+            } else {
+                instructions.add(load(1 + random.nextInt(LOCAL_VARIABLES)));
+                instructions.add(load(1 + random.nextInt(LOCAL_VARIABLES)));
+                instructions.add(new SizeChangingInstruction("combine", 1, 2, null));
+                instructions.add(new StoreInstruction(variable, Types.PRIMITIVE_INT, "variable" + variable, null));
+            }
+        }
+
+        instructions.add(load(1 + random.nextInt(LOCAL_VARIABLES)));
+        instructions.add(new ReturnInstruction(null));
+        return instructions;
+    }
+
+    private static Instruction load(final int variable) {
+        return new LoadInstruction(variable, Types.PRIMITIVE_INT, "variable" + variable, null, null);
+    }
+
+}
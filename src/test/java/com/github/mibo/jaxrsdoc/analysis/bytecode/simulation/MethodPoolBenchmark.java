@@ -0,0 +1,86 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+import com.github.mibo.jaxrsdoc.model.Types;
+import com.github.mibo.jaxrsdoc.model.elements.Element;
+import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
+import com.github.mibo.jaxrsdoc.model.instructions.InvokeInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.PushInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.ReturnInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.SizeChangingInstruction;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of simulating invocations of JDK, {@code ResponseBuilder} and {@code JsonObjectBuilder} methods.
+ * <p>
+ * Run with {@code java -cp <test class path> org.openjdk.jmh.Main MethodPoolBenchmark}.
+ *
+ * @author Sebastian Daschner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodPoolBenchmark {
+
+    private static final MethodIdentifier STRING_LENGTH = MethodIdentifier.ofNonStatic("java/lang/String", "length", Types.PRIMITIVE_INT);
+    private static final MethodIdentifier RESPONSE_BUILDER_STATUS = MethodIdentifier.ofNonStatic(Types.CLASS_RESPONSE_BUILDER, "status",
+            Types.RESPONSE_BUILDER, Types.PRIMITIVE_INT);
+    private static final MethodIdentifier JSON_OBJECT_BUILDER_ADD = MethodIdentifier.ofNonStatic(Types.CLASS_JSON_OBJECT_BUILDER, "add",
+            Types.JSON_OBJECT_BUILDER, Types.STRING, Types.STRING);
+
+    private final MethodPool methodPool = new MethodPool();
+
+    private final List<Instruction> jdkInstructions = Arrays.asList(new PushInstruction("a", Types.STRING, null),
+            new InvokeInstruction(STRING_LENGTH, null), new ReturnInstruction(null));
+    private final List<Instruction> responseBuilderInstructions = Arrays.asList(new SizeChangingInstruction("builder", 1, 0, null),
+            new PushInstruction(200, Types.PRIMITIVE_INT, null), new InvokeInstruction(RESPONSE_BUILDER_STATUS, null), new ReturnInstruction(null));
+    private final List<Instruction> jsonObjectBuilderInstructions = Arrays.asList(new SizeChangingInstruction("builder", 1, 0, null),
+            new PushInstruction("key", Types.STRING, null), new PushInstruction("value", Types.STRING, null),
+            new InvokeInstruction(JSON_OBJECT_BUILDER_ADD, null), new ReturnInstruction(null));
+
+    @Benchmark
+    public Object lookupJdkMethod() {
+        return methodPool.get(STRING_LENGTH);
+    }
+
+    @Benchmark
+    public Object lookupResponseBuilderMethod() {
+        return methodPool.get(RESPONSE_BUILDER_STATUS);
+    }
+
+    @Benchmark
+    public Object lookupJsonObjectBuilderMethod() {
+        return methodPool.get(JSON_OBJECT_BUILDER_ADD);
+    }
+
+    @Benchmark
+    public Element simulateJdkInvocation() {
+        return new MethodSimulator().simulate(jdkInstructions);
+    }
+
+    @Benchmark
+    public Element simulateResponseBuilderInvocation() {
+        return new MethodSimulator().simulate(responseBuilderInstructions);
+    }
+
+    @Benchmark
+    public Element simulateJsonObjectBuilderInvocation() {
+        return new MethodSimulator().simulate(jsonObjectBuilderInstructions);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+import com.github.mibo.jaxrsdoc.model.Types;
+import com.github.mibo.jaxrsdoc.model.methods.Method;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+import com.github.mibo.jaxrsdoc.model.methods.ProjectMethod;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class MethodPoolTest {
+
+    @Test
+    public void testKnownMethod() {
+        final Method method = new MethodPool().get(MethodIdentifier.ofStatic(Types.CLASS_RESPONSE, "ok", Types.RESPONSE_BUILDER));
+
+        assertThat(method, is(KnownResponseResultMethod.RESPONSE_OK));
+    }
+
+    @Test
+    public void testProjectMethodErasedSignature() {
+        final MethodPool classUnderTest = new MethodPool();
+        final ProjectMethod method = new ProjectMethod(MethodIdentifier.ofNonStatic("com/sebastian_daschner/Test", "get",
+                "Ljava/util/List<Ljava/lang/String;>;", "Ljava/util/Set<Ljava/lang/String;>;"), Collections.emptyList());
+        classUnderTest.addProjectMethod(method);
+
+        assertThat(classUnderTest.get(MethodIdentifier.ofNonStatic("com/sebastian_daschner/Test", "get",
+                "Ljava/util/List;", "Ljava/util/Set;")), is(sameInstance(method)));
+        assertThat(classUnderTest.get(MethodIdentifier.ofNonStatic("com/sebastian_daschner/Test", "get",
+                "Ljava/util/List;", "Ljava/util/Map;")), not(instanceOf(ProjectMethod.class)));
+        assertThat(classUnderTest.get(MethodIdentifier.ofStatic("com/sebastian_daschner/Test", "get",
+                "Ljava/util/List;", "Ljava/util/Set;")), not(instanceOf(ProjectMethod.class)));
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
+import com.github.mibo.jaxrsdoc.model.Types;
+import com.github.mibo.jaxrsdoc.model.elements.Element;
+import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
+import com.github.mibo.jaxrsdoc.model.instructions.InvokeInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.LoadInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.PushInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.ReturnInstruction;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+import com.github.mibo.jaxrsdoc.model.methods.ProjectMethod;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MethodSummarizerTest {
+
+    private static final MethodIdentifier IDENTIFIER = MethodIdentifier.ofStatic("com/sebastian_daschner/Test", "find", Types.STRING, Types.PRIMITIVE_INT);
+
+    @Test
+    public void testRecursiveFixedPoint() {
+        // return "a" or find(number)
+        final List<Instruction> instructions = Arrays.asList(new PushInstruction("a", Types.STRING, null), new ReturnInstruction(null),
+                new LoadInstruction(0, Types.PRIMITIVE_INT, null, null), new InvokeInstruction(IDENTIFIER, null), new ReturnInstruction(null));
+        final ProjectMethod method = new ProjectMethod(IDENTIFIER, instructions);
+        final AnalysisContext context = new AnalysisContext();
+
+        AnalysisContext.runWith(context, () -> {
+            context.getMethodPool().addProjectMethod(method);
+            new MethodSummarizer().summarize(Collections.singletonList(method), true);
+        });
+
+        final MethodSummaryCache summaries = context.getMethodSummaries();
+        assertThat(summaries.size(), is(1));
+        assertThat(summaries.get(summaries.key(IDENTIFIER, Collections.singletonList(new Element(Types.PRIMITIVE_INT)))).get(),
+                is(new Element(new HashSet<>(Arrays.asList(Types.STRING, Types.OBJECT)), "a")));
+    }
+
+    @Test
+    public void testNonRecursive() {
+        final ProjectMethod method = new ProjectMethod(IDENTIFIER, Arrays.asList(new PushInstruction("a", Types.STRING, null), new ReturnInstruction(null)));
+        final AnalysisContext context = new AnalysisContext();
+
+        AnalysisContext.runWith(context, () -> new MethodSummarizer().summarize(Collections.singletonList(method), false));
+
+        final MethodSummaryCache summaries = context.getMethodSummaries();
+        assertThat(summaries.get(summaries.key(IDENTIFIER, Collections.singletonList(new Element(Types.PRIMITIVE_INT)))).get(),
+                is(new Element(Types.STRING, "a")));
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+import com.github.mibo.jaxrsdoc.model.Types;
+import com.github.mibo.jaxrsdoc.model.elements.Element;
+import com.github.mibo.jaxrsdoc.model.elements.HttpResponse;
+import com.github.mibo.jaxrsdoc.model.methods.MethodIdentifier;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class MethodSummaryCacheTest {
+
+    private static final MethodIdentifier IDENTIFIER = MethodIdentifier.ofStatic("com/sebastian_daschner/Test", "error", Types.RESPONSE,
+            Types.PRIMITIVE_INT, Types.STRING);
+
+    @Test
+    public void testCachedCopy() {
+        final MethodSummaryCache classUnderTest = new MethodSummaryCache();
+        final HttpResponse response = new HttpResponse();
+        response.getStatuses().add(404);
+        final Element element = new Element(Types.RESPONSE, response);
+
+        final MethodSummaryCache.SummaryKey key = classUnderTest.key(IDENTIFIER,
+                Arrays.asList(new Element(Types.PRIMITIVE_INT, 404), new Element(Types.STRING)));
+        assertThat(classUnderTest.get(key), is(nullValue()));
+        classUnderTest.put(key, element);
+
+        final Optional<Element> summary = classUnderTest.get(classUnderTest.key(IDENTIFIER,
+                Arrays.asList(new Element(Types.PRIMITIVE_INT, 404), new Element(Types.STRING))));
+        assertThat(summary.get(), is(element));
+        assertThat(summary.get(), is(not(sameInstance(element))));
+        assertThat(summary.get().getPossibleValues().iterator().next(), is(not(sameInstance(response))));
+
+        assertThat(classUnderTest.get(classUnderTest.key(IDENTIFIER,
+                Arrays.asList(new Element(Types.PRIMITIVE_INT, 500), new Element(Types.STRING)))), is(nullValue()));
+        assertThat(classUnderTest.getHits(), is(1L));
+        assertThat(classUnderTest.getMisses(), is(2L));
+    }
+
+    @Test
+    public void testMutableArguments() {
+        final MethodSummaryCache classUnderTest = new MethodSummaryCache();
+
+        assertThat(classUnderTest.key(IDENTIFIER, Collections.singletonList(new Element(Types.RESPONSE, new HttpResponse()))), is(nullValue()));
+    }
+
+}
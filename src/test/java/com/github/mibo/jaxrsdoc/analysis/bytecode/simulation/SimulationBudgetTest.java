@@ -0,0 +1,41 @@
+package com.github.mibo.jaxrsdoc.analysis.bytecode.simulation;
+
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
+import com.github.mibo.jaxrsdoc.model.Types;
+import com.github.mibo.jaxrsdoc.model.elements.Element;
+import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
+import com.github.mibo.jaxrsdoc.model.instructions.PushInstruction;
+import com.github.mibo.jaxrsdoc.model.instructions.ReturnInstruction;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SimulationBudgetTest {
+
+    private final List<Instruction> instructions = Arrays.asList(new PushInstruction("a", Types.STRING, null),
+            new PushInstruction("b", Types.STRING, null), new ReturnInstruction(null));
+
+    @Test
+    public void testWithinBudget() {
+        final Element element = AnalysisContext.callWith(new AnalysisContext(new SimulationBudget(3, 1, 1000)),
+                () -> new MethodSimulator().simulate(instructions));
+
+        assertThat(element, is(new Element(Types.STRING, "b")));
+    }
+
+    @Test(expected = SimulationBudgetExceededException.class)
+    public void testInstructionBudgetExceeded() {
+        AnalysisContext.runWith(new AnalysisContext(new SimulationBudget(2, 1, 1000)),
+                () -> new MethodSimulator().simulate(instructions));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBudget() {
+        new SimulationBudget(0, 1, 1);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AnalysisClassPathTest {
+
+    private static final String CLASS_NAME = AnalysisClassPathTest.class.getName();
+
+    private final AnalysisClassPath classUnderTest = new AnalysisClassPath();
+
+    @After
+    public void tearDown() {
+        classUnderTest.close();
+    }
+
+    @Test
+    public void testReadClassCached() throws IOException {
+        final byte[] bytes = classUnderTest.readClass(CLASS_NAME);
+
+        assertThat(classUnderTest.readClass(CLASS_NAME), is(bytes));
+        assertThat(classUnderTest.getClassCache().getHits(), is(1L));
+        assertThat(classUnderTest.getClassCache().getWeight(), is((long) bytes.length));
+    }
+
+    @Test
+    public void testReadUncachedClass() throws IOException {
+        final byte[] bytes = classUnderTest.readUncachedClass(CLASS_NAME);
+
+        assertThat(bytes, is(classUnderTest.readClass(CLASS_NAME)));
+        assertThat(classUnderTest.getClassCache().getHits(), is(0L));
+        assertThat(classUnderTest.getClassCache().getMisses(), is(1L));
+    }
+
+    @Test
+    public void testTypeHierarchyUncached() {
+        classUnderTest.getTypeHierarchy().getSuperTypes(CLASS_NAME.replace('.', '/'));
+
+        assertThat(classUnderTest.getClassCache().getMisses(), is(0L));
+        assertThat(classUnderTest.getClassCache().getWeight(), is(0L));
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import com.github.mibo.jaxrsdoc.analysis.classes.index.JarIndex;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ClassBytesStoreTest {
+
+    private static final String ENTRY = name(Stored.class) + ".class";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ClassBytesStore classUnderTest = new ClassBytesStore();
+
+    @After
+    public void tearDown() throws IOException {
+        classUnderTest.close();
+    }
+
+    @Test
+    public void testDirectory() throws IOException {
+        final byte[] bytes = readClass(Stored.class);
+        final Path directory = folder.newFolder("classes").toPath();
+        writeFile(directory, ENTRY, bytes);
+
+        classUnderTest.addLocation(directory);
+
+        assertThat(classUnderTest.getClassBytes(name(Stored.class)), is(bytes));
+        assertThat(classUnderTest.getClassBytes(Stored.class.getName()), is(bytes));
+    }
+
+    @Test
+    public void testJar() throws IOException {
+        final byte[] bytes = readClass(Stored.class);
+        final Path jar = writeJar("test.jar", ENTRY, bytes);
+
+        classUnderTest.addLocation(jar);
+
+        assertThat(classUnderTest.getClassBytes(name(Stored.class)), is(bytes));
+    }
+
+    @Test
+    public void testEarlierLocationTakesPrecedence() throws IOException {
+        final byte[] bytes = readClass(Stored.class);
+        final Path directory = folder.newFolder("classes").toPath();
+        writeFile(directory, ENTRY, new byte[]{1, 2, 3});
+
+        classUnderTest.addLocation(writeJar("test.jar", ENTRY, bytes));
+        classUnderTest.addLocation(directory);
+
+        assertThat(classUnderTest.getClassBytes(name(Stored.class)), is(bytes));
+    }
+
+    @Test
+    public void testIndexedJarOpenedLazily() throws IOException {
+        final byte[] bytes = readClass(Stored.class);
+        final JarIndex index = JarIndex.build(writeJar("test.jar", ENTRY, bytes));
+        final Path jar = folder.getRoot().toPath().resolve("lazy.jar");
+
+        // the jar-file doesn't exist yet, it must not be opened for classes of other packages
+        classUnderTest.addLocation(jar, index);
+        assertThat(classUnderTest.getClassBytes("com/example/Unknown"), is(nullValue()));
+
+        Files.copy(folder.getRoot().toPath().resolve("test.jar"), jar);
+        assertThat(classUnderTest.getClassBytes(name(Stored.class)), is(bytes));
+    }
+
+    @Test
+    public void testMissingClass() throws IOException {
+        final Path directory = folder.newFolder("classes").toPath();
+        writeFile(directory, ENTRY, readClass(Stored.class));
+        classUnderTest.addLocation(directory);
+        classUnderTest.addLocation(writeJar("test.jar", ENTRY, readClass(Stored.class)));
+
+        // known package, unknown class
+        assertThat(classUnderTest.getClassBytes(name(ClassBytesStoreTest.class) + "$Missing"), is(nullValue()));
+        // unknown package
+        assertThat(classUnderTest.getClassBytes("com/example/Unknown"), is(nullValue()));
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        classUnderTest.addLocation(writeJar("test.jar", ENTRY, readClass(Stored.class)));
+
+        classUnderTest.close();
+
+        assertThat(classUnderTest.getClassBytes(name(Stored.class)), is(nullValue()));
+    }
+
+    private Path writeJar(final String fileName, final String entryName, final byte[] bytes) throws IOException {
+        final Path jar = folder.getRoot().toPath().resolve(fileName);
+        try (final OutputStream outputStream = Files.newOutputStream(jar);
+             final JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            jarOutputStream.putNextEntry(new JarEntry(entryName));
+            jarOutputStream.write(bytes);
+            jarOutputStream.closeEntry();
+        }
+        return jar;
+    }
+
+    private static void writeFile(final Path directory, final String entryName, final byte[] bytes) throws IOException {
+        final Path file = directory.resolve(entryName);
+        Files.createDirectories(file.getParent());
+        Files.write(file, bytes);
+    }
+
+    private static byte[] readClass(final Class<?> clazz) throws IOException {
+        try (final InputStream inputStream = clazz.getClassLoader().getResourceAsStream(name(clazz) + ".class");
+             final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1)
+                outputStream.write(buffer, 0, read);
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static String name(final Class<?> clazz) {
+        return clazz.getName().replace('.', '/');
+    }
+
+    private static class Stored {
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ClassCacheTest {
+
+    private final ClassCache classUnderTest = new ClassCache(10);
+
+    @Test
+    public void testGet() {
+        final byte[] bytes = new byte[4];
+        classUnderTest.put("a/A", bytes);
+
+        assertThat(classUnderTest.get("a/A"), is(bytes));
+        assertThat(classUnderTest.get("a/B"), is(nullValue()));
+        assertThat(classUnderTest.getHits(), is(1L));
+        assertThat(classUnderTest.getMisses(), is(1L));
+        assertThat(classUnderTest.getWeight(), is(4L));
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        classUnderTest.put("a/A", new byte[4]);
+        classUnderTest.put("a/B", new byte[4]);
+        classUnderTest.get("a/A");
+        classUnderTest.put("a/C", new byte[4]);
+
+        assertThat(classUnderTest.get("a/B"), is(nullValue()));
+        assertThat(classUnderTest.get("a/A").length, is(4));
+        assertThat(classUnderTest.get("a/C").length, is(4));
+        assertThat(classUnderTest.getEvictions(), is(1L));
+        assertThat(classUnderTest.getWeight(), is(8L));
+    }
+
+    @Test
+    public void testReplace() {
+        classUnderTest.put("a/A", new byte[4]);
+        classUnderTest.put("a/A", new byte[6]);
+
+        assertThat(classUnderTest.getWeight(), is(6L));
+        assertThat(classUnderTest.getEvictions(), is(0L));
+    }
+
+    @Test
+    public void testTooLarge() {
+        classUnderTest.put("a/A", new byte[11]);
+
+        assertThat(classUnderTest.get("a/A"), is(nullValue()));
+        assertThat(classUnderTest.getWeight(), is(0L));
+    }
+
+}
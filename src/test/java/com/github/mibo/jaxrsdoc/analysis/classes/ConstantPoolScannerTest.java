@@ -0,0 +1,54 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import com.github.mibo.jaxrsdoc.model.Types;
+import org.junit.Test;
+
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ConstantPoolScannerTest {
+
+    private final ConstantPoolScanner classUnderTest = new ConstantPoolScanner(Types.PATH, Types.APPLICATION_PATH);
+
+    @Test
+    public void testResource() throws IOException {
+        assertThat(classUnderTest.containsAny(ContextClassReader.readClass(Resource.class.getName())), is(true));
+    }
+
+    @Test
+    public void testApplication() throws IOException {
+        assertThat(classUnderTest.containsAny(ContextClassReader.readClass(RestApplication.class.getName())), is(true));
+    }
+
+    @Test
+    public void testOtherClass() throws IOException {
+        assertThat(classUnderTest.containsAny(ContextClassReader.readClass(Constants.class.getName())), is(false));
+    }
+
+    @Test
+    public void testInvalidBytes() {
+        assertThat(classUnderTest.containsAny(new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0, 0, 52, 0, 5, 1}), is(true));
+        assertThat(classUnderTest.containsAny(new byte[]{1, 2, 3}), is(true));
+    }
+
+    @Path("test")
+    public static class Resource {
+    }
+
+    @ApplicationPath("rest")
+    public static class RestApplication extends Application {
+    }
+
+    public static class Constants {
+        // long and double constants take two constant pool slots
+        public static final long LONG = 1234567890123L;
+        public static final double DOUBLE = 1.5;
+        public static final String STRING = "javax/ws/rs/Path";
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import com.github.mibo.jaxrsdoc.model.Types;
+import com.github.mibo.jaxrsdoc.model.instructions.Instruction;
+import com.github.mibo.jaxrsdoc.model.instructions.LoadStoreInstruction;
+import com.github.mibo.jaxrsdoc.model.results.MethodResult;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ProjectMethodVisitorTest {
+
+    private ProjectMethodVisitor cut;
+    private List<Instruction> instructions;
+
+    @Before
+    public void setUp() {
+        final MethodResult methodResult = new MethodResult();
+        cut = new ProjectMethodVisitor(methodResult, "Foobar");
+        instructions = methodResult.getInstructions();
+    }
+
+    @Test
+    public void testInclusiveStartAndEndLabels() {
+        final Label start = new Label();
+        final Label end = new Label();
+
+        cut.visitLabel(new Label());
+        cut.visitVarInsn(Opcodes.ALOAD, 1);
+        cut.visitLabel(start);
+        cut.visitVarInsn(Opcodes.ASTORE, 1);
+        cut.visitLabel(new Label());
+        cut.visitVarInsn(Opcodes.ALOAD, 1);
+        cut.visitLabel(end);
+        cut.visitVarInsn(Opcodes.ALOAD, 1);
+        cut.visitLabel(new Label());
+        cut.visitVarInsn(Opcodes.ALOAD, 1);
+
+        cut.visitLocalVariable("foobar", Types.STRING, null, start, end, 1);
+        cut.visitEnd();
+
+        assertUnresolved(0, Instruction.InstructionType.LOAD);
+        assertResolved(1, Instruction.InstructionType.STORE, "foobar", Types.STRING);
+        assertResolved(2, Instruction.InstructionType.LOAD, "foobar", Types.STRING);
+        assertResolved(3, Instruction.InstructionType.LOAD, "foobar", Types.STRING);
+        assertUnresolved(4, Instruction.InstructionType.LOAD);
+    }
+
+    @Test
+    public void testEndLabelNotVisited() {
+        final Label start = new Label();
+
+        cut.visitLabel(start);
+        cut.visitVarInsn(Opcodes.ASTORE, 1);
+        cut.visitLabel(new Label());
+        cut.visitVarInsn(Opcodes.ALOAD, 1);
+
+        cut.visitLocalVariable("foobar", Types.STRING, null, start, new Label(), 1);
+        cut.visitEnd();
+
+        assertResolved(0, Instruction.InstructionType.STORE, "foobar", Types.STRING);
+        assertResolved(1, Instruction.InstructionType.LOAD, "foobar", Types.STRING);
+    }
+
+    @Test
+    public void testPlaceholdersBeforeFirstLabel() {
+        final Label start = new Label();
+        final Label end = new Label();
+
+        cut.visitVarInsn(Opcodes.ALOAD, 1);
+        cut.visitLabel(start);
+        cut.visitVarInsn(Opcodes.ALOAD, 1);
+        cut.visitLabel(end);
+
+        cut.visitLocalVariable("foobar", Types.STRING, null, start, end, 1);
+        cut.visitEnd();
+
+        assertUnresolved(0, Instruction.InstructionType.LOAD);
+        assertResolved(1, Instruction.InstructionType.LOAD, "foobar", Types.STRING);
+    }
+
+    @Test
+    public void testFirstEntryWins() {
+        final Label start = new Label();
+        final Label end = new Label();
+
+        cut.visitLabel(start);
+        cut.visitVarInsn(Opcodes.ASTORE, 1);
+        cut.visitVarInsn(Opcodes.ALOAD, 1);
+        cut.visitLabel(end);
+
+        cut.visitLocalVariable("first", Types.STRING, null, start, end, 1);
+        cut.visitLocalVariable("second", Types.INTEGER, null, start, end, 1);
+        cut.visitEnd();
+
+        assertResolved(0, Instruction.InstructionType.STORE, "first", Types.STRING);
+        assertResolved(1, Instruction.InstructionType.LOAD, "first", Types.STRING);
+    }
+
+    @Test
+    public void testEndLabelBeforeStartLabel() {
+        final Label start = new Label();
+        final Label end = new Label();
+
+        cut.visitLabel(end);
+        cut.visitVarInsn(Opcodes.ALOAD, 1);
+        cut.visitLabel(start);
+        cut.visitVarInsn(Opcodes.ALOAD, 1);
+
+        cut.visitLocalVariable("foobar", Types.STRING, null, start, end, 1);
+        cut.visitEnd();
+
+        assertUnresolved(0, Instruction.InstructionType.LOAD);
+        assertUnresolved(1, Instruction.InstructionType.LOAD);
+    }
+
+    private void assertResolved(final int index, final Instruction.InstructionType type, final String name, final String variableType) {
+        final LoadStoreInstruction instruction = (LoadStoreInstruction) instructions.get(index);
+        assertThat(instruction.getType(), is(type));
+        assertThat(instruction.getName(), is(name));
+        assertThat(instruction.getVariableType(), is(variableType));
+    }
+
+    private void assertUnresolved(final int index, final Instruction.InstructionType type) {
+        // unresolved placeholders fall back to an unnamed Object variable
+        final LoadStoreInstruction instruction = (LoadStoreInstruction) instructions.get(index);
+        assertThat(instruction.getType(), is(type));
+        assertThat(instruction.getName(), is("variable$1"));
+        assertThat(instruction.getVariableType(), is(Types.OBJECT));
+    }
+
+}
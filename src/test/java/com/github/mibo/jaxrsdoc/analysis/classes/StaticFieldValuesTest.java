@@ -0,0 +1,93 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import org.junit.Test;
+
+import javax.ws.rs.core.Response;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class StaticFieldValuesTest {
+
+    private static final AtomicInteger INITIALIZATIONS = new AtomicInteger();
+
+    @Test
+    public void testConstantValues() {
+        final StaticFieldValues classUnderTest = new StaticFieldValues(ContextClassReader::readClass, false);
+
+        assertThat(classUnderTest.getValue(name(Constants.class), "STATUS"), is(404));
+        assertThat(classUnderTest.getValue(name(Constants.class), "NAME"), is("name"));
+        assertThat(classUnderTest.getValue(name(Constants.class), "FLAG"), is(true));
+        assertThat(classUnderTest.getValue(name(Constants.class), "BOXED"), is(42));
+        assertThat(classUnderTest.getValue(name(Constants.class), "BOXED_LONG"), is(7L));
+        assertThat(classUnderTest.getValue(name(Constants.class), "BOXED_CHAR"), is('c'));
+        assertThat(classUnderTest.getValue(name(Constants.class), "OBJECT_FLAG"), is(true));
+        assertThat(classUnderTest.getValue(name(Constants.class), "OBJECT_CHAR"), is('c'));
+        assertThat(classUnderTest.getValue(name(Constants.class), "OBJECT_NUMBER"), is(1));
+        assertThat(INITIALIZATIONS.get(), is(0));
+    }
+
+    @Test
+    public void testUnresolvedValues() {
+        final StaticFieldValues classUnderTest = new StaticFieldValues(ContextClassReader::readClass, false);
+
+        assertThat(classUnderTest.getValue(name(Constants.class), "COMPUTED"), is(nullValue()));
+        assertThat(classUnderTest.getValue(name(Constants.class), "PARSED"), is(nullValue()));
+        assertThat(classUnderTest.getValue(name(Constants.class), "PARSED_FLAG"), is(nullValue()));
+        assertThat(classUnderTest.getValue(name(Constants.class), "CONDITIONAL"), is(nullValue()));
+        assertThat(classUnderTest.getValue(name(Constants.class), "counter"), is(nullValue()));
+        assertThat(classUnderTest.getValue("com/example/Unknown", "VALUE"), is(nullValue()));
+        assertThat(INITIALIZATIONS.get(), is(0));
+    }
+
+    @Test
+    public void testJaxRsValues() {
+        final StaticFieldValues classUnderTest = new StaticFieldValues(ContextClassReader::readClass, false);
+
+        assertThat(classUnderTest.getValue("javax/ws/rs/core/Response$Status", "NOT_FOUND"), is(Response.Status.NOT_FOUND));
+    }
+
+    @Test
+    public void testReflectiveValues() {
+        final StaticFieldValues classUnderTest = new StaticFieldValues(ContextClassReader::readClass, true);
+
+        assertThat(classUnderTest.getValue(name(ReflectiveConstants.class), "COMPUTED"), is("123"));
+        assertThat(classUnderTest.getValue(name(ReflectiveConstants.class), "COMPUTED"), is("123"));
+    }
+
+    private static String name(final Class<?> clazz) {
+        return clazz.getName().replace('.', '/');
+    }
+
+    private static class Constants {
+
+        static final int STATUS = 404;
+        static final String NAME = "name";
+        static final boolean FLAG = true;
+        static final Integer BOXED = 42;
+        static final Integer PARSED = Integer.valueOf("42");
+        static final Boolean PARSED_FLAG = Boolean.valueOf("true");
+        static final Long BOXED_LONG = 7L;
+        static final Character BOXED_CHAR = 'c';
+        static final Object OBJECT_FLAG = true;
+        static final Object OBJECT_CHAR = 'c';
+        static final Object OBJECT_NUMBER = 1;
+        static final String COMPUTED = String.valueOf(123);
+        static final Integer CONDITIONAL = System.currentTimeMillis() > 0 ? 1 : 2;
+        static int counter = 3;
+
+        static {
+            INITIALIZATIONS.incrementAndGet();
+        }
+
+    }
+
+    private static class ReflectiveConstants {
+
+        static final String COMPUTED = String.valueOf(123);
+
+    }
+
+}
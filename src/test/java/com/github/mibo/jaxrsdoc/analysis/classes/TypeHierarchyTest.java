@@ -0,0 +1,63 @@
+package com.github.mibo.jaxrsdoc.analysis.classes;
+
+import com.github.mibo.jaxrsdoc.model.Types;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class TypeHierarchyTest {
+
+    private final TypeHierarchy classUnderTest = new TypeHierarchy(ContextClassReader::readClass);
+
+    @Test
+    public void testSuperTypes() {
+        final List<String> superTypes = new ArrayList<>(classUnderTest.getSuperTypes(name(SubClass.class)));
+
+        assertThat(superTypes, is(Arrays.asList(name(SuperClass.class), Types.CLASS_OBJECT, name(SecondInterface.class), name(FirstInterface.class))));
+    }
+
+    @Test
+    public void testAssignable() {
+        assertThat(classUnderTest.isAssignableTo(name(SubClass.class), name(SubClass.class)), is(true));
+        assertThat(classUnderTest.isAssignableTo(name(SubClass.class), name(FirstInterface.class)), is(true));
+        assertThat(classUnderTest.isAssignableTo(name(SubClass.class), Types.CLASS_OBJECT), is(true));
+        assertThat(classUnderTest.isAssignableTo(name(SuperClass.class), name(SubClass.class)), is(false));
+        assertThat(classUnderTest.isAssignableTo("java/util/ArrayList", "java/util/Collection"), is(true));
+    }
+
+    @Test
+    public void testInterface() {
+        assertThat(classUnderTest.isInterface(name(FirstInterface.class)), is(true));
+        assertThat(classUnderTest.isInterface(name(SubClass.class)), is(false));
+    }
+
+    @Test
+    public void testUnknownClass() {
+        assertThat(classUnderTest.getClass("com/example/Unknown"), is(nullValue()));
+        assertThat(classUnderTest.getSuperTypes("com/example/Unknown").isEmpty(), is(true));
+        assertThat(classUnderTest.isAssignableTo("com/example/Unknown", Types.CLASS_OBJECT), is(false));
+    }
+
+    private static String name(final Class<?> clazz) {
+        return clazz.getName().replace('.', '/');
+    }
+
+    private interface FirstInterface {
+    }
+
+    private interface SecondInterface extends FirstInterface {
+    }
+
+    private static class SuperClass implements SecondInterface {
+    }
+
+    private static class SubClass extends SuperClass {
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.github.mibo.jaxrsdoc.analysis.classes.index;
+
+import com.github.mibo.jaxrsdoc.model.Types;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+public class JarIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private java.nio.file.Path jar;
+
+    @Before
+    public void setUp() throws IOException {
+        jar = folder.newFile("test.jar").toPath();
+        try (final OutputStream outputStream = Files.newOutputStream(jar);
+             final JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            addClass(jarOutputStream, IndexedResource.class);
+            addClass(jarOutputStream, Model.class);
+        }
+    }
+
+    @Test
+    public void testBuild() throws IOException {
+        final JarIndex index = JarIndex.build(jar);
+
+        assertThat(index.getClasses().size(), is(2));
+
+        final IndexedClass resource = findClass(index, IndexedResource.class);
+        assertThat(resource.getSuperName(), is(Types.CLASS_OBJECT));
+        assertThat(resource.getAnnotations(), is(singletonList(Types.PATH)));
+        assertThat(resource.isInterface(), is(false));
+
+        final IndexedMethod method = resource.getMethods().stream().filter(m -> m.getName().equals("getModels")).findAny().orElse(null);
+        assertThat(method, notNullValue());
+        assertThat(method.getDesc(), is("()Ljava/util/List;"));
+        assertThat(method.getSignature(), is("()Ljava/util/List<L" + Model.class.getName().replace('.', '/') + ";>;"));
+        assertThat(method.getAnnotations(), is(singletonList(Types.GET)));
+
+        final IndexedClass model = findClass(index, Model.class);
+        assertThat(model.getInterfaces(), is(singletonList("java/io/Serializable")));
+        assertThat(model.isInterface(), is(true));
+    }
+
+    @Test
+    public void testBuildSkipsUnsupportedEntries() throws IOException {
+        final java.nio.file.Path modernJar = folder.newFile("modern.jar").toPath();
+        final byte[] modelBytes = readClass(Model.class);
+        final byte[] modernBytes = modelBytes.clone();
+        // class file major version 53 (Java 9) is not supported by ASM 5
+        modernBytes[7] = 53;
+
+        try (final OutputStream outputStream = Files.newOutputStream(modernJar);
+             final JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            addEntry(jarOutputStream, "module-info.class", modernBytes);
+            addEntry(jarOutputStream, "META-INF/versions/9/com/example/Versioned.class", modernBytes);
+            addEntry(jarOutputStream, "com/example/Modern.class", modernBytes);
+            addEntry(jarOutputStream, Model.class.getName().replace('.', '/') + ".class", modelBytes);
+        }
+
+        final JarIndex index = JarIndex.build(modernJar);
+
+        assertThat(index.getClasses().size(), is(1));
+        assertThat(findClass(index, Model.class).isInterface(), is(true));
+    }
+
+    @Test
+    public void testWriteRead() throws IOException {
+        final JarIndex index = JarIndex.build(jar);
+        final java.nio.file.Path indexFile = folder.newFile("test.idx").toPath();
+
+        index.write(indexFile);
+
+        assertThat(JarIndex.read(indexFile).getClasses(), is(index.getClasses()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadCorruptFile() throws IOException {
+        final java.nio.file.Path indexFile = folder.newFile("corrupt.idx").toPath();
+        Files.write(indexFile, new byte[]{1, 2, 3});
+
+        JarIndex.read(indexFile);
+    }
+
+    @Test
+    public void testCache() throws IOException {
+        final java.nio.file.Path cacheDirectory = folder.getRoot().toPath().resolve("cache");
+        final ClassIndexCache cache = new ClassIndexCache(cacheDirectory);
+
+        final List<IndexedClass> classes = cache.getIndex(jar).getClasses();
+        assertThat(Files.list(cacheDirectory).count(), is(1L));
+
+        assertThat(cache.getIndex(jar).getClasses(), is(classes));
+        assertThat(Files.list(cacheDirectory).count(), is(1L));
+    }
+
+    private static IndexedClass findClass(final JarIndex index, final Class<?> clazz) {
+        final String name = clazz.getName().replace('.', '/');
+        return index.getClasses().stream().filter(c -> c.getName().equals(name)).findAny().orElseThrow(AssertionError::new);
+    }
+
+    private static void addClass(final JarOutputStream jarOutputStream, final Class<?> clazz) throws IOException {
+        addEntry(jarOutputStream, clazz.getName().replace('.', '/') + ".class", readClass(clazz));
+    }
+
+    private static void addEntry(final JarOutputStream jarOutputStream, final String entryName, final byte[] bytes) throws IOException {
+        jarOutputStream.putNextEntry(new JarEntry(entryName));
+        jarOutputStream.write(bytes);
+        jarOutputStream.closeEntry();
+    }
+
+    private static byte[] readClass(final Class<?> clazz) throws IOException {
+        final String entryName = clazz.getName().replace('.', '/') + ".class";
+        try (final InputStream inputStream = clazz.getClassLoader().getResourceAsStream(entryName);
+             final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1)
+                outputStream.write(buffer, 0, read);
+            return outputStream.toByteArray();
+        }
+    }
+
+    @Path("test")
+    public static class IndexedResource {
+
+        @GET
+        public List<Model> getModels() {
+            return null;
+        }
+
+    }
+
+    public interface Model extends Serializable {
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.github.mibo.jaxrsdoc.analysis.utils;
 
+import com.github.mibo.jaxrsdoc.analysis.classes.AnalysisClassPath;
 import com.github.mibo.jaxrsdoc.model.JavaUtils;
 import com.github.mibo.jaxrsdoc.model.Types;
 import org.junit.Test;
@@ -37,6 +38,19 @@ public class JavaUtilsTest {
         assertTrue(JavaUtils.isAssignableTo(Types.PRIMITIVE_INT, Types.PRIMITIVE_INT));
     }
 
+    @Test
+    public void testIsAssignableToPrimitivesNotResolved() {
+        final AnalysisClassPath classPath = new AnalysisClassPath();
+
+        AnalysisClassPath.runWith(classPath, () -> {
+            assertFalse(JavaUtils.isAssignableTo(Types.PRIMITIVE_INT, Types.PRIMITIVE_LONG));
+            assertFalse(JavaUtils.isAssignableTo(Types.PRIMITIVE_LONG, Types.OBJECT));
+            assertFalse(JavaUtils.isAssignableTo("[I", "[J"));
+        });
+
+        assertThat(classPath.getClassResolutionCache().getMissingClasses().isEmpty(), is(true));
+    }
+
     @Test
     public void testIsAssignableToArray() {
         final String intArray = "[I";
@@ -1,6 +1,6 @@
 package com.github.mibo.jaxrsdoc.backend.swagger;
 
-import com.github.mibo.jaxrsdoc.model.rest.TypeIdentifier;
+import com.github.mibo.jaxrsdoc.analysis.AnalysisContext;
 
 import java.lang.reflect.Field;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -12,9 +12,9 @@ final class TypeIdentifierTestSupport {
 
     static void resetTypeIdentifierCounter() {
         try {
-            Field dynamicCounterField = TypeIdentifier.class.getDeclaredField("dynamicCounter");
+            Field dynamicCounterField = AnalysisContext.class.getDeclaredField("dynamicTypeCounter");
             dynamicCounterField.setAccessible(true);
-            AtomicInteger dynamicCounter = (AtomicInteger) dynamicCounterField.get(null);
+            AtomicInteger dynamicCounter = (AtomicInteger) dynamicCounterField.get(AnalysisContext.current());
             dynamicCounter.set(0);
         } catch (ReflectiveOperationException e) {
             throw new IllegalStateException("Could not reset the counter via reflection.", e);